@@ -0,0 +1,102 @@
+package com.example.demo.dto.response;
+
+import com.example.demo.config.ResponseJsonHttpMessageConverter;
+import com.example.demo.security.JwtBenchmarkSupport;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LoginResponse / Response Jackson 직렬화
+ * jackson*: ObjectMapper 로 byte[] 직렬화
+ * jacksonConverter* / streamingConverter*: 응답 body 에 쓰는 경로 (기존 MappingJackson2HttpMessageConverter / ResponseJsonHttpMessageConverter)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private HttpMessageConverter<Object> jacksonConverter;
+    private HttpMessageConverter<Object> streamingConverter;
+    private LoginResponse loginResponse;
+    private Response response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JwtBenchmarkSupport.objectMapper();
+        jacksonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+        streamingConverter = new ResponseJsonHttpMessageConverter(new ResponseJsonWriter(objectMapper.getFactory()));
+        LocalDateTime now = LocalDateTime.now();
+        String token = JwtBenchmarkSupport.jwtProvider("jjwt", false, 60)
+                .generateToken(JwtBenchmarkSupport.authentication(), false);
+        loginResponse = LoginResponse.builder()
+                .status(200)
+                .message("로그인 성공")
+                .accessToken(token)
+                .expiredAt(now.plusSeconds(60))
+                .refreshToken(token)
+                .issuedAt(now)
+                .build();
+        response = Response.builder()
+                .status(401)
+                .message("만료된 토큰입니다.")
+                .build();
+    }
+
+    @Benchmark
+    public byte[] loginResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(loginResponse);
+    }
+
+    @Benchmark
+    public byte[] response() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage jacksonConverterLoginResponse() throws IOException {
+        return write(jacksonConverter, loginResponse);
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage streamingConverterLoginResponse() throws IOException {
+        return write(streamingConverter, loginResponse);
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage jacksonConverterResponse() throws IOException {
+        return write(jacksonConverter, response);
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage streamingConverterResponse() throws IOException {
+        return write(streamingConverter, response);
+    }
+
+    private static MockHttpOutputMessage write(HttpMessageConverter<Object> converter, Object value) throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(value, MediaType.APPLICATION_JSON, message);
+        return message;
+    }
+}
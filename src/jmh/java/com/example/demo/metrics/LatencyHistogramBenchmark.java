@@ -0,0 +1,39 @@
+package com.example.demo.metrics;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter 에 추가된 지표 기록 비용 (nanoTime 2회 + record)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LatencyHistogramBenchmark {
+
+    private final AuthMetrics authMetrics = new AuthMetrics();
+
+    @Benchmark
+    public void recordFilterOutcome() {
+        authMetrics.recordFilter(AuthMetrics.FilterOutcome.OK, System.nanoTime());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordFilterOutcomeContended() {
+        authMetrics.recordFilter(AuthMetrics.FilterOutcome.OK, System.nanoTime());
+    }
+}
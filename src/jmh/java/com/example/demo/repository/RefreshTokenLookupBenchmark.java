@@ -0,0 +1,124 @@
+package com.example.demo.repository;
+
+import com.example.demo.security.TokenDigest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * refreshToken 확인 쿼리 비교 (H2 메모리 DB, 회원 수 = members)
+ * legacy 는 이전 방식 (username + 원본 토큰 varchar 비교), hashed 는 username 으로 digest 를 읽어 상수 시간 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RefreshTokenLookupBenchmark {
+
+    private static final int TOKEN_LENGTH = 200;
+
+    @Param({"1000000"})
+    public int members;
+
+    private Connection connection;
+    private PreparedStatement legacyLookup;
+    private PreparedStatement hashedLookup;
+    private String[] tokens;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:refresh-token-lookup;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table member_legacy (member_id bigint primary key, username varchar(255) unique, refresh_token varchar(255))");
+            statement.execute("create table member (member_id bigint primary key, username varchar(255) unique, refresh_token_hash binary(32))");
+        }
+
+        //전체 토큰을 들고 있으면 heap 이 커지므로 조회 대상 일부만 보관
+        tokens = new String[Math.min(members, 10_000)];
+        Random random = new Random(42);
+        byte[] raw = new byte[TOKEN_LENGTH * 3 / 4];
+        connection.setAutoCommit(false);
+        try (PreparedStatement legacy = connection.prepareStatement("insert into member_legacy values (?, ?, ?)");
+             PreparedStatement hashed = connection.prepareStatement("insert into member values (?, ?, ?)")) {
+            for(int i = 0; i < members; i++) {
+                random.nextBytes(raw);
+                String token = Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+                if(i < tokens.length) tokens[i] = token;
+
+                legacy.setLong(1, i);
+                legacy.setString(2, username(i));
+                legacy.setString(3, token);
+                legacy.addBatch();
+                hashed.setLong(1, i);
+                hashed.setString(2, username(i));
+                hashed.setBytes(3, TokenDigest.sha256(token));
+                hashed.addBatch();
+                if(i % 10_000 == 9_999) {
+                    legacy.executeBatch();
+                    hashed.executeBatch();
+                }
+            }
+            legacy.executeBatch();
+            hashed.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        legacyLookup = connection.prepareStatement("select count(*) from member_legacy where username = ? and refresh_token = ?");
+        hashedLookup = connection.prepareStatement("select refresh_token_hash from member where username = ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public boolean legacy() throws SQLException {
+        int index = ThreadLocalRandom.current().nextInt(tokens.length);
+        legacyLookup.setString(1, username(index));
+        legacyLookup.setString(2, tokens[index]);
+        try (ResultSet resultSet = legacyLookup.executeQuery()) {
+            return resultSet.next() && resultSet.getLong(1) > 0;
+        }
+    }
+
+    @Benchmark
+    public boolean hashed() throws SQLException {
+        int index = ThreadLocalRandom.current().nextInt(tokens.length);
+        hashedLookup.setString(1, username(index));
+        try (ResultSet resultSet = hashedLookup.executeQuery()) {
+            return resultSet.next() && TokenDigest.matches(resultSet.getBytes(1), TokenDigest.sha256(tokens[index]));
+        }
+    }
+
+    private static String username(int index) {
+        return "member" + index;
+    }
+}
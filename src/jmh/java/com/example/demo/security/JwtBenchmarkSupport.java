@@ -0,0 +1,80 @@
+package com.example.demo.security;
+
+import com.example.demo.metrics.AuthMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 벤치마크 공용 fixture
+ */
+public final class JwtBenchmarkSupport {
+
+    public static final String SECRET = "SeCrEtKeYR4e3o1W1o2nY3oun4gju13n";
+
+    private JwtBenchmarkSupport() {
+    }
+
+    /**
+     * application.properties 와 같은 설정의 JwtProvider
+     * @param verifier 검증 엔진 (jjwt | hs256)
+     * @param cacheEnabled 검증 캐시 사용 여부
+     * @param accessTokenValidSeconds accessToken 유효 시간 (음수면 만료된 토큰 생성)
+     */
+    public static JwtProvider jwtProvider(String verifier, boolean cacheEnabled, long accessTokenValidSeconds) {
+        JwtProvider jwtProvider = new JwtProvider(new KeyRing(SECRET, "", KeyRing.DEFAULT_KID, 0, 86400),
+                accessTokenValidSeconds, 86400, verifier, "bitmask",
+                new TokenAuthenticationCache(cacheEnabled, 10000, 60), new AuthMetrics());
+        jwtProvider.init();
+        return jwtProvider;
+    }
+
+    /**
+     * 임의의 jti 를 미리 폐기해 둔 폐기 목록 (만료 시간은 유효 시간 안에 고르게 분포)
+     * @param accessTokenValidSeconds accessToken 유효 시간
+     * @param revokedTokens 폐기해 둘 토큰 수
+     */
+    public static RevokedTokenDenylist revokedTokenDenylist(long accessTokenValidSeconds, int revokedTokens) {
+        long bucketSeconds = 10;
+        int expectedPerBucket = (int) Math.max(1000, revokedTokens * bucketSeconds / accessTokenValidSeconds);
+        RevokedTokenDenylist denylist = new RevokedTokenDenylist(accessTokenValidSeconds, bucketSeconds, expectedPerBucket);
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now = System.currentTimeMillis();
+        for(int i = 0; i < revokedTokens; i++) {
+            long expiration = now + 60_000 + random.nextLong(accessTokenValidSeconds * 1000 - 60_000);
+            denylist.revoke(new UUID(random.nextLong(), random.nextLong()).toString(), expiration);
+        }
+        return denylist;
+    }
+
+    public static Authentication authentication() {
+        return new UsernamePasswordAuthenticationToken("youngjun", "",
+                List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN")));
+    }
+
+    /**
+     * spring boot 자동 설정과 같은 ObjectMapper
+     */
+    public static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    /**
+     * 서명 중간 글자를 바꾼 토큰
+     */
+    public static String tamper(String token) {
+        int index = token.lastIndexOf('.') + 5;
+        char replacement = token.charAt(index) == 'A' ? 'B' : 'A';
+        return token.substring(0, index) + replacement + token.substring(index + 1);
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.demo.security;
+
+import com.example.demo.metrics.AuthMetrics;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter 전체 경로 (헤더 추출 → 검증 → 폐기 확인 → SecurityContext 세팅 / 에러 응답)
+ * revokedTokens 만큼 다른 토큰을 폐기해 둔 상태에서 측정한다.
+ * 보안 이벤트는 기본 비율 (ACCESS_GRANTED 1%, 에러 전부) 로 SecurityEventLog 에 기록하고
+ * 반복마다 기록 / 버린 이벤트 수를 결과에 secondary 지표로 남긴다. (SecurityEventCounters)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    @Param({"jjwt", "hs256"})
+    public String verifier;
+
+    @Param({"false", "true"})
+    public boolean cacheEnabled;
+
+    @Param({"0", "1000000"})
+    public int revokedTokens;
+
+    private JwtFilter jwtFilter;
+    private SecurityEventLog securityEventLog;
+    private String validHeader;
+    private String expiredHeader;
+    private String revokedHeader;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        JwtProvider jwtProvider = JwtBenchmarkSupport.jwtProvider(verifier, cacheEnabled, 3600);
+        RevokedTokenDenylist denylist = JwtBenchmarkSupport.revokedTokenDenylist(3600, revokedTokens);
+        //이벤트는 기본 설정대로 buffer 에 넣고 소비자 스레드가 비우되 출력은 끔
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(SecurityEventLog.class)).setLevel(ch.qos.logback.classic.Level.OFF);
+        securityEventLog = new SecurityEventLog(8192, 50, "ACCESS_GRANTED:0.01");
+        securityEventLog.start();
+        jwtFilter = new JwtFilter(jwtProvider, new ErrorResponseWriter(JwtBenchmarkSupport.objectMapper()), denylist, new AuthMetrics(), securityEventLog);
+        validHeader = "Bearer " + jwtProvider.generateToken(JwtBenchmarkSupport.authentication(), false);
+        expiredHeader = "Bearer " + JwtBenchmarkSupport.jwtProvider(verifier, false, -60)
+                .generateToken(JwtBenchmarkSupport.authentication(), false);
+
+        String revokedToken = jwtProvider.generateToken(JwtBenchmarkSupport.authentication(), false);
+        VerifiedToken verifiedToken = jwtProvider.verify(revokedToken);
+        denylist.revoke(verifiedToken.getTokenId(), verifiedToken.getExpiration());
+        revokedHeader = "Bearer " + revokedToken;
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        securityEventLog.shutdown();
+    }
+
+    /**
+     * 반복 동안 기록 / 버린 보안 이벤트 수 (SecurityEventLog 전체 값의 차이라 측정 스레드 1개 기준)
+     * 기록은 소비자 스레드가 하므로 반복이 끝날 때 아직 buffer 에 남은 이벤트는 다음 반복에 포함된다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SecurityEventCounters {
+        public long securityEventsLogged;
+        public long securityEventsDropped;
+
+        private long loggedAtStart;
+        private long droppedAtStart;
+
+        @Setup(Level.Iteration)
+        public void start(JwtFilterBenchmark benchmark) {
+            loggedAtStart = benchmark.securityEventLog.getLoggedCount();
+            droppedAtStart = benchmark.securityEventLog.getDroppedCount();
+        }
+
+        @TearDown(Level.Iteration)
+        public void stop(JwtFilterBenchmark benchmark) {
+            securityEventsLogged = benchmark.securityEventLog.getLoggedCount() - loggedAtStart;
+            securityEventsDropped = benchmark.securityEventLog.getDroppedCount() - droppedAtStart;
+        }
+    }
+
+    @Benchmark
+    public MockHttpServletResponse validToken(SecurityEventCounters counters) throws ServletException, IOException {
+        return filter(validHeader);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse expiredToken(SecurityEventCounters counters) throws ServletException, IOException {
+        return filter(expiredHeader);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse revokedToken(SecurityEventCounters counters) throws ServletException, IOException {
+        return filter(revokedHeader);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse missingToken(SecurityEventCounters counters) throws ServletException, IOException {
+        return filter(null);
+    }
+
+    /**
+     * 요청마다 새 SecurityContext 에서 시작하도록 필터 뒤에 비움
+     * (@TearDown(Level.Invocation) 은 호출마다 timestamp 를 찍어 ns 단위 측정을 왜곡하므로 측정 안에서 처리)
+     */
+    private MockHttpServletResponse filter(String header) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/test");
+        if(header != null) request.addHeader(JwtFilter.AUTHORIZATION_HEADER, header);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            jwtFilter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
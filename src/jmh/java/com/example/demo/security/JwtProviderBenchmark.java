@@ -0,0 +1,119 @@
+package com.example.demo.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.core.Authentication;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtProvider 토큰 생성 / 검증
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtProviderBenchmark {
+
+    @Param({"jjwt", "hs256"})
+    public String verifier;
+
+    @Param({"false", "true"})
+    public boolean cacheEnabled;
+
+    private JwtProvider jwtProvider;
+    private Authentication authentication;
+    private String validToken;
+    private String expiredToken;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = JwtBenchmarkSupport.jwtProvider(verifier, cacheEnabled, 3600);
+        authentication = JwtBenchmarkSupport.authentication();
+        validToken = jwtProvider.generateToken(authentication, false);
+        expiredToken = JwtBenchmarkSupport.jwtProvider(verifier, false, -60).generateToken(authentication, false);
+        tamperedToken = JwtBenchmarkSupport.tamper(validToken);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtProvider.generateToken(authentication, false);
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return jwtProvider.generateToken(authentication, true);
+    }
+
+    /**
+     * 로그인 / 재발급에서 쓰는 토큰 쌍 생성 (발급 시각, sub / 권한 claim 공유)
+     */
+    @Benchmark
+    public TokenPair generateTokenPair() {
+        return jwtProvider.generateTokenPair(authentication);
+    }
+
+    /**
+     * 비교 기준: 이전 방식 (JwtBuilder 로 토큰마다 header / claims 를 Jackson 으로 직렬화) 으로 두 토큰 생성
+     */
+    @Benchmark
+    public void generateTwoTokensWithJwtBuilder(Blackhole blackhole) {
+        blackhole.consume(jwtBuilderToken(jwtProvider.getAccessTokenValidMilliSeconds()));
+        blackhole.consume(jwtBuilderToken(jwtProvider.getRefreshTokenValidMilliSeconds()));
+    }
+
+    @Benchmark
+    public Authentication getAuthenticationValid() {
+        return jwtProvider.getAuthentication(validToken);
+    }
+
+    @Benchmark
+    public Object getAuthenticationExpired() {
+        try {
+            return jwtProvider.getAuthentication(expiredToken);
+        } catch (JwtException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object getAuthenticationTampered() {
+        try {
+            return jwtProvider.getAuthentication(tamperedToken);
+        } catch (JwtException e) {
+            return e;
+        }
+    }
+
+    private String jwtBuilderToken(long validMilliSeconds) {
+        SigningKey signingKey = jwtProvider.getKeyRing().getSigningKey();
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.getKid())
+                .setId(new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong()).toString())
+                .setSubject(authentication.getName())
+                .claim("rl", RoleAuthorities.mask(authentication.getAuthorities()))
+                .signWith(signingKey.getKey(), SignatureAlgorithm.HS256)
+                .setExpiration(new Date(System.currentTimeMillis() + validMilliSeconds))
+                .compact();
+    }
+}
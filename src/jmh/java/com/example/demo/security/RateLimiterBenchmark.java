@@ -0,0 +1,63 @@
+package com.example.demo.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 제한 확인 비용 (/api/login, /api/refreshToken 요청마다 추가로 하는 작업)
+ * hotKey 는 모든 스레드가 같은 key 를 쓰는 경합 상황 (허용 / 거절이 섞임),
+ * distinctKeys 는 keys 개의 서로 다른 key 에 나뉘는 일반 상황이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class RateLimiterBenchmark {
+
+    @Param({"1000", "100000"})
+    public int keys;
+
+    private RateLimiter rateLimiter;
+    private RateLimiter disabled;
+    private String[] keyNames;
+
+    @Setup
+    public void setUp() {
+        rateLimiter = new RateLimiter(60_000_000, 1000, keys * 2);
+        disabled = new RateLimiter(0, 0, keys * 2);
+        keyNames = new String[keys];
+        for(int i = 0; i < keys; i++) keyNames[i] = "10.0." + (i >>> 8) + "." + (i & 0xff);
+        for(String key : keyNames) rateLimiter.tryAcquire(key);
+    }
+
+    @Benchmark
+    public long hotKey() {
+        return rateLimiter.tryAcquire(keyNames[0]);
+    }
+
+    @Benchmark
+    public long distinctKeys() {
+        return rateLimiter.tryAcquire(keyNames[ThreadLocalRandom.current().nextInt(keys)]);
+    }
+
+    @Benchmark
+    public long disabledLimiter() {
+        return disabled.tryAcquire(keyNames[ThreadLocalRandom.current().nextInt(keys)]);
+    }
+}
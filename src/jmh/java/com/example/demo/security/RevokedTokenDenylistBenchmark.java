@@ -0,0 +1,57 @@
+package com.example.demo.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 폐기 목록 조회 처리량 (JwtFilter 가 매 요청마다 추가로 하는 작업)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class RevokedTokenDenylistBenchmark {
+
+    @Param({"0", "1000000"})
+    public int revokedTokens;
+
+    private RevokedTokenDenylist denylist;
+    private String activeTokenId;
+    private String revokedTokenId;
+    private long expiration;
+
+    @Setup
+    public void setUp() {
+        denylist = JwtBenchmarkSupport.revokedTokenDenylist(3600, revokedTokens);
+        expiration = System.currentTimeMillis() + 1_800_000;
+        activeTokenId = UUID.randomUUID().toString();
+        revokedTokenId = UUID.randomUUID().toString();
+        denylist.revoke(revokedTokenId, expiration);
+    }
+
+    @Benchmark
+    public boolean activeToken() {
+        return denylist.isRevoked(activeTokenId, expiration);
+    }
+
+    @Benchmark
+    public boolean revokedToken() {
+        return denylist.isRevoked(revokedTokenId, expiration);
+    }
+}
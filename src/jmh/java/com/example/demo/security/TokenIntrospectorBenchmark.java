@@ -0,0 +1,69 @@
+package com.example.demo.security;
+
+import com.example.demo.dto.response.IntrospectionResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 일괄 검증 (batch 하나 처리 시간, 서로 다른 토큰이라 검증 캐시는 끔)
+ * parallelism 1 은 요청 스레드 하나로 검증하는 경우와 같다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenIntrospectorBenchmark {
+
+    @Param({"jjwt", "hs256"})
+    public String verifier;
+
+    @Param({"100", "1000"})
+    public int batchSize;
+
+    @Param({"1", "0"})
+    public int parallelism;
+
+    private TokenIntrospector tokenIntrospector;
+    private List<String> tokens;
+
+    @Setup
+    public void setUp() {
+        JwtProvider jwtProvider = JwtBenchmarkSupport.jwtProvider(verifier, false, 3600);
+        tokenIntrospector = new TokenIntrospector(jwtProvider, JwtBenchmarkSupport.revokedTokenDenylist(3600, 0), batchSize, parallelism);
+
+        tokens = new ArrayList<>(batchSize);
+        String expired = JwtBenchmarkSupport.jwtProvider(verifier, false, -60).generateToken(JwtBenchmarkSupport.authentication(), false);
+        for(int i = 0; i < batchSize; i++) {
+            //10개 중 1개는 실패하는 토큰 (만료 / 서명 불일치)
+            if(i % 20 == 0) tokens.add(expired);
+            else if(i % 20 == 10) tokens.add(JwtBenchmarkSupport.tamper(jwtProvider.generateToken(JwtBenchmarkSupport.authentication(), false)));
+            else tokens.add(jwtProvider.generateToken(JwtBenchmarkSupport.authentication(), false));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        tokenIntrospector.shutdown();
+    }
+
+    @Benchmark
+    public List<IntrospectionResponse> introspect() {
+        return tokenIntrospector.introspect(tokens);
+    }
+}
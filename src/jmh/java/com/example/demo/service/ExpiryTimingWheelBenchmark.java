@@ -0,0 +1,100 @@
+package com.example.demo.service;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * refreshToken 세션 만료 예약 (JpaTokenStateStore 의 wheel, tick 1초)
+ * sessions 개의 세션이 하루 동안 고르게 만료되도록 예약한 상태에서
+ * schedule: 로그인 한 건 예약 비용,
+ * drainDay: 하루치 시간을 진행해 전부 만료시키는 시간 (sessions / 측정 시간 = 초당 만료 처리량) 을 잰다.
+ * 세션 당 메모리는 schedule 결과에 secondary 지표 (wheelBytes, wheelBytesPerSession) 로 남긴다. (Footprint)
+ */
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ExpiryTimingWheelBenchmark {
+
+    private static final long TICK_MILLIS = 1000;
+    private static final long DAY_MILLIS = TimeUnit.DAYS.toMillis(1);
+    private static final long START = 1_700_000_000_000L;
+
+    @State(Scope.Thread)
+    public static class Sessions {
+        @Param({"1000000", "4000000"})
+        public int sessions;
+
+        ExpiryTimingWheel wheel;
+        SplittableRandom random;
+        long nextId;
+
+        void fill() {
+            random = new SplittableRandom(42);
+            wheel = new ExpiryTimingWheel(TICK_MILLIS, 4, START);
+            for(nextId = 0; nextId < sessions; nextId++) wheel.schedule(nextId, START + 1 + random.nextLong(DAY_MILLIS));
+        }
+    }
+
+    public static class FilledPerIteration extends Sessions {
+        @Setup(Level.Iteration)
+        public void setUp() {
+            fill();
+        }
+    }
+
+    public static class FilledPerInvocation extends Sessions {
+        @Setup(Level.Invocation)
+        public void setUp() {
+            fill();
+        }
+    }
+
+    /**
+     * 반복이 끝날 때 wheel 의 estimatedBytes (반복 중 schedule 로 추가된 세션 포함)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long wheelBytes;
+        public long wheelBytesPerSession;
+
+        @TearDown(Level.Iteration)
+        public void measure(FilledPerIteration state) {
+            wheelBytes = state.wheel.estimatedBytes();
+            wheelBytesPerSession = wheelBytes / Math.max(1, state.nextId);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public void schedule(FilledPerIteration state, Footprint footprint) {
+        state.wheel.schedule(state.nextId++, START + 1 + state.random.nextLong(DAY_MILLIS));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public long drainDay(FilledPerInvocation state) {
+        long[] expired = new long[1];
+        state.wheel.advance(START + DAY_MILLIS + TICK_MILLIS, id -> expired[0]++);
+        return expired[0];
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.loadtest;
+
+import java.util.Locale;
+
+/**
+ * 부하 테스트 대상 endpoint
+ */
+public enum Endpoint {
+    MEMBERS, LOGIN, REFRESH, TEST;
+
+    public String label() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static Endpoint of(String label) {
+        return valueOf(label.toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.metrics.LatencyHistogram;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * endpoint 별 측정 값 (warmup 이후 요청만)
+ */
+@Getter
+public class EndpointStats {
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final ConcurrentHashMap<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    /**
+     * 응답 기록
+     * @param nanos 예정 시작 시점부터 응답까지 걸린 시간
+     * @param error 실패 사유 (HTTP status 또는 예외 이름), 성공이면 null
+     */
+    public void record(long nanos, String error) {
+        latency.record(nanos);
+        requests.increment();
+        if(error != null) errors.computeIfAbsent(error, key -> new LongAdder()).increment();
+    }
+
+    public Map<String, Long> errorCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        errors.forEach((key, count) -> counts.put(key, count.sum()));
+        return counts;
+    }
+}
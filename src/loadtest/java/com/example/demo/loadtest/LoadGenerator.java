@@ -0,0 +1,323 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.security.JwtFilter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * open model 부하 생성기
+ * 요청 시작 시점을 rate 로 미리 정해두고 응답을 기다리지 않고 보낸다.
+ * 지연시간은 예정 시작 시점부터 재므로 서버가 밀려 요청이 늦게 나가도 그 대기가 결과에 포함된다 (coordinated omission 방지).
+ * 서버 자원 사용량은 측정 구간 동안 별도 스레드에서 SAMPLE_INTERVAL 마다 읽는다. (JMX 호출이 요청 시작 시점을 밀지 않도록)
+ */
+public class LoadGenerator {
+
+    private static final long SAMPLE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final LoadTestConfig config;
+    private final String baseUrl;
+    private final List<Session> sessions;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final ExecutorService responseExecutor;
+
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong memberSequence = new AtomicLong();
+    private final ResourceSampler resourceSampler;
+    private Map<String, Object> importSummary;
+
+    /**
+     * @param resourceSampler 서버 JVM 자원 사용량 (JMX)
+     */
+    public LoadGenerator(LoadTestConfig config, String baseUrl, List<Session> sessions, ObjectMapper objectMapper,
+                         ResourceSampler resourceSampler) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.sessions = sessions;
+        this.objectMapper = objectMapper;
+        this.resourceSampler = resourceSampler;
+        this.responseExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-client");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(responseExecutor)
+                .build();
+
+        this.endpoints = config.getMix().keySet().toArray(new Endpoint[0]);
+        this.cumulativeWeights = new int[endpoints.length];
+        int total = 0;
+        for(int i = 0; i < endpoints.length; i++) {
+            total += config.getMix().get(endpoints[i]);
+            cumulativeWeights[i] = total;
+        }
+        for(Endpoint endpoint : Endpoint.values()) stats.put(endpoint, new EndpointStats());
+    }
+
+    /**
+     * 세션 로그인 (측정 전 accessToken / refreshToken 준비)
+     */
+    public void loginAll() {
+        sessions.parallelStream().forEach(session -> {
+            HttpResponse<String> response = httpClient.sendAsync(login(session), HttpResponse.BodyHandlers.ofString()).join();
+            if(response.statusCode() != 200)
+                throw new IllegalStateException(session.getUsername() + " 로그인 실패: " + response.statusCode() + " " + response.body());
+            updateTokens(session, response.body());
+        });
+    }
+
+    /**
+     * 회원 일괄 가입 처리량 측정 (/api/members/import, NDJSON)
+     * @param rows 가입할 회원 수
+     * @return 처리 시간과 rows/second
+     */
+    public Map<String, Object> importMembers(int rows) throws Exception {
+        StringBuilder body = new StringBuilder(rows * 64);
+        for(int i = 0; i < rows; i++)
+            body.append("{\"username\":\"lt-import-").append(i).append("\",\"password\":\"password").append(i).append("\",\"name\":\"loadtest\"}\n");
+
+        long startedAt = System.nanoTime();
+        HttpRequest request = authorized(HttpRequest.newBuilder(URI.create(baseUrl + "/api/members/import"))
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString())), sessions.get(0)).build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("rows", rows);
+        summary.put("status", response.statusCode());
+        summary.put("elapsed_ms", elapsedNanos / 1e6);
+        summary.put("rows_per_second", rows * 1e9 / elapsedNanos);
+        if(response.statusCode() == 200) {
+            JsonNode json = objectMapper.readTree(response.body());
+            summary.put("imported", json.path("imported").asLong());
+            summary.put("failed", json.path("failed").asLong());
+            summary.put("server_rows_per_second", json.path("rowsPerSecond").asDouble());
+        }
+        this.importSummary = summary;
+        return summary;
+    }
+
+    /**
+     * warmup + 측정 구간 동안 부하 생성
+     * @return 측정 결과
+     */
+    public LoadReport run() throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.getRate();
+        long startedAt = System.nanoTime();
+        long measureFrom = startedAt + TimeUnit.SECONDS.toNanos(config.getWarmupSeconds());
+        long endAt = measureFrom + TimeUnit.SECONDS.toNanos(config.getDurationSeconds());
+
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleAtFixedRate(() -> resourceSampler.sample(inFlight.get()),
+                measureFrom - System.nanoTime(), SAMPLE_INTERVAL_NANOS, TimeUnit.NANOSECONDS);
+
+        for(long i = 0; ; i++) {
+            long intended = startedAt + i * intervalNanos;
+            if(intended >= endAt) break;
+            long wait;
+            while((wait = intended - System.nanoTime()) > 0) LockSupport.parkNanos(wait);
+            send(nextEndpoint(), intended, intended >= measureFrom);
+        }
+
+        //summary 는 sampler 가 끝난 뒤에 읽음
+        sampler.shutdown();
+        sampler.awaitTermination(10, TimeUnit.SECONDS);
+
+        //남은 요청 응답 대기 (최대 30초)
+        long drainUntil = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while(inFlight.get() > 0 && System.nanoTime() < drainUntil) Thread.sleep(10);
+
+        responseExecutor.shutdownNow();
+        return new LoadReport(config, stats, resourceSampler, importSummary);
+    }
+
+    private Endpoint nextEndpoint() {
+        int value = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for(int i = 0; i < cumulativeWeights.length; i++)
+            if(value < cumulativeWeights[i]) return endpoints[i];
+        return endpoints[endpoints.length - 1];
+    }
+
+    private void send(Endpoint endpoint, long intended, boolean measured) {
+        EndpointStats endpointStats = stats.get(endpoint);
+        if(inFlight.get() >= config.getMaxInFlight()) {
+            if(measured) endpointStats.getDropped().increment();
+            return;
+        }
+
+        Session session = sessions.get(ThreadLocalRandom.current().nextInt(sessions.size()));
+        HttpRequest request;
+        switch (endpoint) {
+            case MEMBERS:
+                request = signUp(session);
+                break;
+            case LOGIN:
+                request = login(session);
+                break;
+            case REFRESH:
+                request = refresh(session);
+                break;
+            default:
+                request = test(session);
+        }
+
+        inFlight.incrementAndGet();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, throwable) -> {
+            long latency = System.nanoTime() - intended;
+            inFlight.decrementAndGet();
+
+            String error = null;
+            if(throwable != null) {
+                Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                error = cause.getClass().getSimpleName();
+            } else if(response.statusCode() >= 400) {
+                error = String.valueOf(response.statusCode());
+            } else if(endpoint == Endpoint.LOGIN || endpoint == Endpoint.REFRESH) {
+                updateTokens(session, response.body());
+            }
+            if(measured) endpointStats.record(latency, error);
+        });
+    }
+
+    private HttpRequest signUp(Session session) {
+        long sequence = memberSequence.incrementAndGet();
+        return authorized(post("/api/members", Map.of(
+                "username", "lt-new-" + sequence + "-" + System.nanoTime(),
+                "password", "password" + sequence,
+                "name", "loadtest")), session).build();
+    }
+
+    private HttpRequest login(Session session) {
+        return post("/api/login", Map.of("username", session.getUsername(), "password", session.getPassword())).build();
+    }
+
+    private HttpRequest refresh(Session session) {
+        return post("/api/refreshToken", Map.of("grantType", "refreshToken", "refreshToken", session.getRefreshToken())).build();
+    }
+
+    private HttpRequest test(Session session) {
+        return authorized(HttpRequest.newBuilder(URI.create(baseUrl + "/api/test")).GET(), session).build();
+    }
+
+    private HttpRequest.Builder post(String path, Map<String, String> body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest.Builder authorized(HttpRequest.Builder builder, Session session) {
+        return builder.header(JwtFilter.AUTHORIZATION_HEADER, "Bearer " + session.getAccessToken());
+    }
+
+    private void updateTokens(Session session, String body) {
+        try {
+            JsonNode json = objectMapper.readTree(body);
+            session.update(json.path("accessToken").asText(null), json.path("refreshToken").asText(null));
+        } catch (Exception e) {
+            //토큰이 없는 응답은 무시
+        }
+    }
+
+    /**
+     * 측정 구간 자원 사용량 (서버 JVM 의 heap, thread 수와 동시 요청 수)
+     * sampler 스레드 하나만 sample 을 호출한다.
+     */
+    public static class ResourceSampler {
+        private final MemoryMXBean memory;
+        private final ThreadMXBean threads;
+
+        private long samples;
+        private long failedSamples;
+        private long heapUsedSum;
+        private long heapUsedMax;
+        private long threadCountSum;
+        private int threadCountMax;
+        private long inFlightSum;
+        private int inFlightMax;
+
+        /**
+         * @param memory 서버 JVM 의 MemoryMXBean (JMX proxy)
+         * @param threads 서버 JVM 의 ThreadMXBean (JMX proxy)
+         */
+        public ResourceSampler(MemoryMXBean memory, ThreadMXBean threads) {
+            this.memory = memory;
+            this.threads = threads;
+        }
+
+        private void sample(int inFlight) {
+            long heapUsed;
+            int threadCount;
+            try {
+                heapUsed = memory.getHeapMemoryUsage().getUsed();
+                threadCount = threads.getThreadCount();
+            } catch (RuntimeException e) {
+                //JMX 연결 오류로 주기 작업이 멈추지 않도록 건너뛰고 횟수만 남김
+                failedSamples++;
+                return;
+            }
+            samples++;
+            heapUsedSum += heapUsed;
+            heapUsedMax = Math.max(heapUsedMax, heapUsed);
+            threadCountSum += threadCount;
+            threadCountMax = Math.max(threadCountMax, threadCount);
+            inFlightSum += inFlight;
+            inFlightMax = Math.max(inFlightMax, inFlight);
+        }
+
+        public Map<String, Object> summary() {
+            long count = Math.max(1, samples);
+            double inFlightMean = (double) inFlightSum / count;
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("samples", samples);
+            summary.put("failed_samples", failedSamples);
+            summary.put("heap_used_mean_mb", heapUsedSum / count / (1024.0 * 1024));
+            summary.put("heap_used_max_mb", heapUsedMax / (1024.0 * 1024));
+            summary.put("threads_mean", (double) threadCountSum / count);
+            summary.put("threads_max", threadCountMax);
+            summary.put("in_flight_mean", inFlightMean);
+            summary.put("in_flight_max", inFlightMax);
+            //서버 heap 평균을 동시 요청 평균으로 나눈 대략적인 값 (요청이 없어도 쓰는 heap 과 GC 시점이 포함됨, 모드 간 비교용)
+            //virtual 모드는 요청마다 새 virtual thread 라서 SigningKey 의 ThreadLocal Mac, TokenDigest 의 MessageDigest,
+            //TokenMinter / Hs256TokenVerifier 의 buffer 가 재사용되지 않고 요청마다 새로 할당되므로 그만큼 이 값이 커진다.
+            summary.put("heap_per_in_flight_kb", inFlightMean < 1 ? null : heapUsedSum / count / 1024.0 / inFlightMean);
+            return summary;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.metrics.LatencyHistogram;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 (JSON 보고서)
+ */
+public class LoadReport {
+
+    private final Map<String, Object> report = new LinkedHashMap<>();
+
+    /**
+     * @param importSummary 회원 일괄 가입 측정 결과 (측정하지 않았으면 null)
+     */
+    public LoadReport(LoadTestConfig config, Map<Endpoint, EndpointStats> stats, LoadGenerator.ResourceSampler resourceSampler,
+                      Map<String, Object> importSummary) {
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("mode", config.getMode());
+        run.put("rate_rps", config.getRate());
+        run.put("duration_seconds", config.getDurationSeconds());
+        run.put("warmup_seconds", config.getWarmupSeconds());
+        run.put("users", config.getUsers());
+        run.put("max_in_flight", config.getMaxInFlight());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        config.getMix().forEach((endpoint, weight) -> mix.put(endpoint.label(), weight));
+        run.put("mix", mix);
+        run.put("app_properties", config.getAppProperties());
+        run.put("java_version", System.getProperty("java.version"));
+        run.put("processors", Runtime.getRuntime().availableProcessors());
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        stats.forEach((endpoint, endpointStats) -> {
+            if(!config.getMix().containsKey(endpoint)) return;
+            LatencyHistogram.Snapshot snapshot = endpointStats.getLatency().snapshot();
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", snapshot.getCount());
+            summary.put("throughput_rps", (double) snapshot.getCount() / config.getDurationSeconds());
+            summary.put("p50_ms", snapshot.percentile(0.5) / 1e6);
+            summary.put("p99_ms", snapshot.percentile(0.99) / 1e6);
+            summary.put("p999_ms", snapshot.percentile(0.999) / 1e6);
+            summary.put("max_ms", snapshot.getMax() / 1e6);
+            summary.put("mean_ms", snapshot.getMean() / 1e6);
+            summary.put("errors", endpointStats.errorCounts());
+            summary.put("dropped", endpointStats.getDropped().sum());
+            endpoints.put(endpoint.label(), summary);
+        });
+
+        report.put("run", run);
+        report.put("endpoints", endpoints);
+        report.put("resources", resourceSampler.summary());
+        if(importSummary != null) report.put("import", importSummary);
+    }
+
+    public Map<String, Object> getReport() {
+        return report;
+    }
+
+    /**
+     * 보고서 파일 저장
+     * @param path 저장 경로 (상위 디렉터리가 없으면 생성)
+     */
+    public void write(String path) throws IOException {
+        File file = new File(path);
+        if(file.getParentFile() != null) file.getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+    }
+}
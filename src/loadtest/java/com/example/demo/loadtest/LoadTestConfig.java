@@ -0,0 +1,74 @@
+package com.example.demo.loadtest;
+
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (-Dloadtest.xxx system property)
+ */
+@Getter
+public class LoadTestConfig {
+
+    private final String mode;
+    private final int rate;
+    private final int durationSeconds;
+    private final int warmupSeconds;
+    private final Map<Endpoint, Integer> mix;
+    private final int users;
+    private final int maxInFlight;
+    private final String report;
+    private final int importRows;
+    private final Map<String, String> appProperties;
+
+    private LoadTestConfig() {
+        this.mode = System.getProperty("loadtest.mode", "servlet");
+        this.rate = Integer.getInteger("loadtest.rate", 200);
+        this.durationSeconds = Integer.getInteger("loadtest.duration-seconds", 60);
+        this.warmupSeconds = Integer.getInteger("loadtest.warmup-seconds", 10);
+        this.mix = parseMix(System.getProperty("loadtest.mix", "members:1,login:5,refresh:10,test:84"));
+        this.users = Integer.getInteger("loadtest.users", 200);
+        this.maxInFlight = Integer.getInteger("loadtest.max-in-flight", 20000);
+        this.report = System.getProperty("loadtest.report", "target/loadtest-report.json");
+        this.importRows = Integer.getInteger("loadtest.import-rows", 0);
+        this.appProperties = parseProperties(System.getProperty("loadtest.app-properties", ""));
+
+        if(!mode.equals("servlet") && !mode.equals("reactive") && !mode.equals("virtual"))
+            throw new IllegalArgumentException("loadtest.mode 는 servlet | reactive | virtual 중 하나여야 합니다: " + mode);
+        if(rate <= 0) throw new IllegalArgumentException("loadtest.rate 는 0 보다 커야 합니다.");
+    }
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig();
+    }
+
+    /**
+     * "login:5,test:95" 형식의 endpoint 비율
+     */
+    private static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> mix = new LinkedHashMap<>();
+        for(String entry : value.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if(pair.length != 2) throw new IllegalArgumentException("loadtest.mix 형식이 올바르지 않습니다: " + value);
+            int weight = Integer.parseInt(pair[1].trim());
+            if(weight > 0) mix.put(Endpoint.of(pair[0].trim()), weight);
+        }
+        if(mix.isEmpty()) throw new IllegalArgumentException("loadtest.mix 에 endpoint 가 없습니다.");
+        return mix;
+    }
+
+    /**
+     * "JWT.verifier=hs256;JWT.cache-enabled=false" 형식의 애플리케이션 설정
+     */
+    private static Map<String, String> parseProperties(String value) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        for(String entry : value.split(";")) {
+            if(entry.isBlank()) continue;
+            int separator = entry.indexOf('=');
+            if(separator <= 0) throw new IllegalArgumentException("loadtest.app-properties 형식이 올바르지 않습니다: " + entry);
+            properties.put(entry.substring(0, separator).trim(), entry.substring(separator + 1).trim());
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.demo.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import javax.management.MBeanServerConnection;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 실행 (mvn -Ploadtest verify)
+ * 애플리케이션을 별도 JVM (LoadTestServer, H2 메모리 DB) 으로 띄우고 사용자를 만든 뒤 open model 부하를 준다.
+ * 서버 heap / thread 수는 JMX 로 서버 JVM 에서 읽으므로 부하 생성기의 메모리가 섞이지 않는다.
+ * loadtest.import-rows 가 0 보다 크면 먼저 회원 일괄 가입 처리량을 잰다.
+ * 결과는 loadtest.report 경로에 JSON 으로, 서버 로그는 같은 디렉터리의 loadtest-server.log 에 저장한다.
+ */
+public class LoadTestMain {
+
+    private static final long SERVER_TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        File directory = new File(config.getReport()).getAbsoluteFile().getParentFile();
+        directory.mkdirs();
+        File readyFile = new File(directory, "loadtest-server.port");
+        readyFile.delete();
+
+        int jmxPort = freePort();
+        Process server = startServer(config, jmxPort, readyFile, new File(directory, "loadtest-server.log"));
+        try {
+            int port = awaitReady(server, readyFile);
+            try (JMXConnector jmx = JMXConnectorFactory.connect(new JMXServiceURL("service:jmx:rmi:///jndi/rmi://localhost:" + jmxPort + "/jmxrmi"))) {
+                MBeanServerConnection connection = jmx.getMBeanServerConnection();
+                LoadGenerator.ResourceSampler resourceSampler = new LoadGenerator.ResourceSampler(
+                        ManagementFactory.newPlatformMXBeanProxy(connection, ManagementFactory.MEMORY_MXBEAN_NAME, MemoryMXBean.class),
+                        ManagementFactory.newPlatformMXBeanProxy(connection, ManagementFactory.THREAD_MXBEAN_NAME, ThreadMXBean.class));
+
+                LoadGenerator generator = new LoadGenerator(config, "http://localhost:" + port,
+                        LoadTestServer.sessions(config.getUsers()), new ObjectMapper(), resourceSampler);
+                generator.loginAll();
+                //일괄 가입은 servlet 전용 endpoint
+                if(config.getImportRows() > 0 && !config.getMode().equals("reactive"))
+                    System.out.println("회원 일괄 가입: " + generator.importMembers(config.getImportRows()));
+                LoadReport report = generator.run();
+                report.write(config.getReport());
+
+                System.out.println(new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(report.getReport()));
+                System.out.println("보고서 저장: " + config.getReport());
+            }
+        } finally {
+            server.destroy();
+            if(!server.waitFor(30, TimeUnit.SECONDS)) server.destroyForcibly().waitFor();
+            readyFile.delete();
+        }
+        System.exit(0);
+    }
+
+    /**
+     * 같은 classpath 로 LoadTestServer JVM 실행 (JMX 는 localhost 에서만, 인증 없음)
+     */
+    private static Process startServer(LoadTestConfig config, int jmxPort, File readyFile, File log) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(new File(System.getProperty("java.home"), "bin/java").getPath());
+        command.add("-Dcom.sun.management.jmxremote.port=" + jmxPort);
+        command.add("-Dcom.sun.management.jmxremote.rmi.port=" + jmxPort);
+        command.add("-Dcom.sun.management.jmxremote.authenticate=false");
+        command.add("-Dcom.sun.management.jmxremote.ssl=false");
+        command.add("-Dcom.sun.management.jmxremote.local.only=true");
+        command.add("-Djava.rmi.server.hostname=localhost");
+        //devtools 는 system property 로만 끌 수 있음 (켜져 있으면 다른 classloader 로 다시 시작)
+        command.add("-Dspring.devtools.restart.enabled=false");
+        command.add("-Dloadtest.mode=" + config.getMode());
+        command.add("-Dloadtest.users=" + config.getUsers());
+        command.add("-Dloadtest.app-properties=" + System.getProperty("loadtest.app-properties", ""));
+        command.add("-Dloadtest.server-ready-file=" + readyFile.getAbsolutePath());
+        command.add("-classpath");
+        command.add(System.getProperty("java.class.path"));
+        command.add(LoadTestServer.class.getName());
+
+        System.out.println("서버 JVM 시작 (로그: " + log + ")");
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+    }
+
+    /**
+     * 서버가 사용자 가입까지 마치고 포트를 쓸 때까지 대기
+     * @return 서버 HTTP 포트
+     */
+    private static int awaitReady(Process server, File readyFile) throws IOException, InterruptedException {
+        long startedAt = System.nanoTime();
+        while(System.nanoTime() - startedAt < SERVER_TIMEOUT_NANOS) {
+            if(readyFile.isFile())
+                return Integer.parseInt(new String(Files.readAllBytes(readyFile.toPath()), StandardCharsets.UTF_8).trim());
+            if(!server.isAlive())
+                throw new IllegalStateException("서버 JVM 이 종료되었습니다. (exit " + server.exitValue() + ", 서버 로그 확인)");
+            Thread.sleep(100);
+        }
+        throw new IllegalStateException("서버가 " + TimeUnit.NANOSECONDS.toSeconds(SERVER_TIMEOUT_NANOS) + "초 안에 준비되지 않았습니다.");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
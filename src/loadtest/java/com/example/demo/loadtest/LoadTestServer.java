@@ -0,0 +1,84 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.domain.MemberForm;
+import com.example.demo.service.MemberService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 대상 서버 (LoadTestMain 이 별도 JVM 으로 실행)
+ * 부하 생성기와 heap / thread 가 섞이지 않도록 애플리케이션만 따로 띄우고 (H2 메모리 DB)
+ * 사용자를 가입시킨 뒤 HTTP 포트를 loadtest.server-ready-file 에 쓴다. 종료는 LoadTestMain 이 프로세스를 끝내서 한다.
+ */
+public class LoadTestServer {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        File readyFile = new File(System.getProperty("loadtest.server-ready-file"));
+
+        ConfigurableApplicationContext context = start(config);
+        seed(context.getBean(MemberService.class), sessions(config.getUsers()));
+
+        //LoadTestMain 이 쓰는 중인 파일을 읽지 않도록 다 쓴 뒤 이름을 바꿈
+        File temporary = new File(readyFile.getPath() + ".tmp");
+        Files.write(temporary.toPath(), context.getEnvironment().getProperty("local.server.port").getBytes(StandardCharsets.UTF_8));
+        Files.move(temporary.toPath(), readyFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 부하 테스트 사용자 (서버와 부하 생성기가 같은 목록을 만듦)
+     */
+    static List<Session> sessions(int users) {
+        List<Session> sessions = new ArrayList<>(users);
+        for(int i = 0; i < users; i++) sessions.add(new Session("lt-user-" + i, "password" + i));
+        return sessions;
+    }
+
+    /**
+     * 애플리케이션 시작 (servlet | reactive | virtual)
+     */
+    private static ConfigurableApplicationContext start(LoadTestConfig config) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.show-sql", "false");
+        //모든 요청이 localhost 에서 오므로 요청 제한은 끔 (loadtest.app-properties 로 다시 켤 수 있음)
+        properties.put("rate-limit.login-ip.permits-per-minute", "0");
+        properties.put("rate-limit.login-username.permits-per-minute", "0");
+        properties.put("rate-limit.refresh-ip.permits-per-minute", "0");
+        if(config.getMode().equals("virtual")) properties.put("spring.threads.virtual.enabled", "true");
+        properties.putAll(config.getAppProperties());
+
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(DemoApplication.class);
+        if(config.getMode().equals("reactive")) builder.profiles("reactive");
+        //application.properties 보다 우선하도록 command line 인자로 전달 (builder 의 properties 는 기본값이라 덮어써짐)
+        return builder.run(properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new));
+    }
+
+    /**
+     * 부하 테스트 사용자 가입 (BCrypt 해싱이 길어서 병렬로 처리)
+     */
+    private static void seed(MemberService memberService, List<Session> sessions) {
+        sessions.parallelStream().forEach(session -> memberService.signUp(MemberForm.builder()
+                .username(session.getUsername())
+                .password(session.getPassword())
+                .name("loadtest")
+                .build()).join());
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 부하 테스트 사용자 (로그인 / 재발급 응답으로 토큰 갱신)
+ */
+@Getter
+@RequiredArgsConstructor
+public class Session {
+    private final String username;
+    private final String password;
+    private volatile String accessToken;
+    private volatile String refreshToken;
+
+    public void update(String accessToken, String refreshToken) {
+        if(accessToken != null) this.accessToken = accessToken;
+        if(refreshToken != null) this.refreshToken = refreshToken;
+    }
+}
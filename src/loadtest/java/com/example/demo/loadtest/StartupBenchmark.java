@@ -0,0 +1,217 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.domain.MemberForm;
+import com.example.demo.service.MemberService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시작 시간 측정 (mvn -Pfast-startup verify, 결과는 startup.report 경로의 JSON)
+ * target/cds 의 jar 를 새 JVM 으로 띄우고 프로세스 시작부터 첫 /api/login 성공까지의 시간을 잰다.
+ * 변형 (startup.variants)
+ *   default: profile 없이
+ *   fast-startup: fast-startup profile
+ *   fast-startup-cds: fast-startup profile + 학습 실행으로 만든 AppCDS archive (startup.archive)
+ * DB 는 미리 회원을 넣어둔 H2 파일 DB 를 모든 실행이 같이 쓴다.
+ * startup.max-millis 가 0 보다 크면 마지막 변형의 중앙값이 그보다 길 때 실패 (exit 1) 한다.
+ */
+public class StartupBenchmark {
+
+    private static final String USERNAME = "startup-user";
+    private static final String PASSWORD = "startup-password";
+    private static final long TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    private final String jar;
+    private final String archive;
+    private final int runs;
+    private final List<String> variants;
+    private final long maxMillis;
+    private final String report;
+    private final File workDirectory;
+    private final String databaseUrl;
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    private StartupBenchmark() {
+        this.jar = System.getProperty("startup.jar");
+        this.archive = System.getProperty("startup.archive", "");
+        this.runs = Integer.getInteger("startup.runs", 5);
+        this.variants = Arrays.asList(System.getProperty("startup.variants", "default,fast-startup,fast-startup-cds").split(","));
+        this.maxMillis = Long.getLong("startup.max-millis", 0);
+        this.report = System.getProperty("startup.report", "target/startup-report.json");
+        this.workDirectory = new File(new File(report).getAbsoluteFile().getParentFile(), "startup");
+        this.databaseUrl = "jdbc:h2:file:" + new File(workDirectory, "db").getAbsolutePath() + ";MODE=MySQL";
+
+        if(jar == null || !new File(jar).isFile()) throw new IllegalArgumentException("startup.jar 가 없습니다: " + jar);
+        if(runs <= 0) throw new IllegalArgumentException("startup.runs 는 0 보다 커야 합니다.");
+    }
+
+    public static void main(String[] args) throws Exception {
+        StartupBenchmark benchmark = new StartupBenchmark();
+        int exitCode = benchmark.run();
+        System.exit(exitCode);
+    }
+
+    private int run() throws Exception {
+        workDirectory.mkdirs();
+        seed();
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        Long lastMedian = null;
+        for(String variant : variants) {
+            if(variant.equals("fast-startup-cds") && !new File(archive).isFile()) {
+                System.out.println(variant + ": CDS archive 가 없어 건너뜀 (" + archive + ")");
+                continue;
+            }
+            List<Long> millis = new ArrayList<>(runs);
+            for(int i = 0; i < runs; i++) {
+                long elapsed = timeToFirstLogin(variant, i);
+                System.out.println(variant + " #" + i + ": " + elapsed + " ms");
+                millis.add(elapsed);
+            }
+            Collections.sort(millis);
+            lastMedian = millis.get(millis.size() / 2);
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("runs", millis.size());
+            summary.put("min_ms", millis.get(0));
+            summary.put("median_ms", lastMedian);
+            summary.put("max_ms", millis.get(millis.size() - 1));
+            summary.put("all_ms", millis);
+            results.put(variant, summary);
+        }
+
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("jar", jar);
+        run.put("archive", archive);
+        run.put("java_version", System.getProperty("java.version"));
+        run.put("processors", Runtime.getRuntime().availableProcessors());
+        run.put("max_ms", maxMillis);
+        Map<String, Object> output = new LinkedHashMap<>();
+        output.put("run", run);
+        output.put("time_to_first_login", results);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(new File(report), output);
+        System.out.println(new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(output));
+        System.out.println("보고서 저장: " + report);
+
+        if(maxMillis > 0 && lastMedian != null && lastMedian > maxMillis) {
+            System.out.println("시작 시간 " + lastMedian + " ms 가 startup.max-millis (" + maxMillis + " ms) 보다 깁니다.");
+            return 1;
+        }
+        return 0;
+    }
+
+    /**
+     * H2 파일 DB 에 schema 생성 + 로그인할 회원 가입 (같은 JVM 에서 애플리케이션을 한번 띄움)
+     */
+    private void seed() {
+        for(File file : workDirectory.listFiles((directory, name) -> name.startsWith("db."))) file.delete();
+
+        Map<String, String> properties = new LinkedHashMap<>(databaseProperties());
+        properties.put("server.port", "0");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.devtools.restart.enabled", "false");
+
+        //application.properties 보다 우선하도록 command line 인자로 전달 (builder 의 properties 는 기본값이라 덮어써짐)
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class)
+                .run(properties.entrySet().stream()
+                        .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                        .toArray(String[]::new));
+        try {
+            context.getBean(MemberService.class).signUp(MemberForm.builder()
+                    .username(USERNAME)
+                    .password(PASSWORD)
+                    .name("startup")
+                    .build()).join();
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * 새 JVM 으로 애플리케이션을 띄우고 첫 로그인 성공까지 걸린 시간
+     * @return 프로세스 시작부터 첫 200 응답까지 (ms)
+     */
+    private long timeToFirstLogin(String variant, int index) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(new File(System.getProperty("java.home"), "bin/java").getPath());
+        if(variant.equals("fast-startup-cds")) command.add("-XX:SharedArchiveFile=" + archive);
+        command.add("-jar");
+        command.add(jar);
+        command.add("--server.port=" + port);
+        if(!variant.equals("default")) command.add("--spring.profiles.active=fast-startup");
+        databaseProperties().forEach((key, value) -> command.add("--" + key + "=" + value));
+        command.add("--spring.jpa.hibernate.ddl-auto=none");
+        //준비 안 된 동안 재시도한 로그인이 요청 제한에 걸리지 않도록
+        command.add("--rate-limit.login-ip.permits-per-minute=0");
+        command.add("--rate-limit.login-username.permits-per-minute=0");
+
+        HttpRequest login = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/login"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"" + USERNAME + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .build();
+
+        long startedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(new File(workDirectory, variant + "-" + index + ".log"))
+                .start();
+        try {
+            while(System.nanoTime() - startedAt < TIMEOUT_NANOS) {
+                if(!process.isAlive())
+                    throw new IllegalStateException(variant + " 프로세스가 종료되었습니다. (exit " + process.exitValue() + ", "
+                            + new File(workDirectory, variant + "-" + index + ".log") + " 확인)");
+                if(loginSucceeded(login)) return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException(variant + " 가 " + TimeUnit.NANOSECONDS.toSeconds(TIMEOUT_NANOS) + "초 안에 로그인에 성공하지 못했습니다.");
+        } finally {
+            process.destroy();
+            if(!process.waitFor(30, TimeUnit.SECONDS)) process.destroyForcibly().waitFor();
+        }
+    }
+
+    private boolean loginSucceeded(HttpRequest login) throws InterruptedException {
+        try {
+            return httpClient.send(login, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            //아직 포트가 열리지 않음
+            return false;
+        }
+    }
+
+    private Map<String, String> databaseProperties() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", databaseUrl);
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        return properties;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
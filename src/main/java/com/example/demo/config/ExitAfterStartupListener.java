@@ -0,0 +1,26 @@
+package com.example.demo.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시작이 끝나면 바로 종료 (startup.exit-after-ready=true)
+ * AppCDS 학습 실행 (-XX:ArchiveClassesAtExit) 에서 시작 중에 읽은 class 를 archive 로 남기고 끝내기 위해 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "startup.exit-after-ready", havingValue = "true")
+public class ExitAfterStartupListener implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final Logger log = LoggerFactory.getLogger(ExitAfterStartupListener.class);
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        log.info("시작 완료, 종료합니다. (startup.exit-after-ready=true)");
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.demo.config;
+
+import com.example.demo.controller.MemberController;
+import com.example.demo.security.KeyRing;
+import com.example.demo.service.JpaTokenStateStore;
+import com.example.demo.service.TokenStateNearCache;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * fast-startup profile (spring.main.lazy-initialization=true) 에서도 시작할 때 만드는 bean
+ * 로그인 controller 와 그 아래 (MemberService, LoginService, BCrypt 해싱 스레드, JPA EntityManagerFactory) 는
+ * 첫 /api/login 이 초기화 비용을 떠안지 않도록 미리 만들고,
+ * 만료 세션 삭제 예약 (JpaTokenStateStore), 저장소 알림 구독 (TokenStateNearCache), 서명 키 (KeyRing) 도 요청과 무관하게 시작한다.
+ * reactive 모드의 controller 는 ReactiveFastStartupConfig 에서 따로 등록한다.
+ */
+@Configuration
+@Profile("fast-startup")
+public class FastStartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter loginPathEagerInitialization() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                MemberController.class,
+                JpaTokenStateStore.class,
+                TokenStateNearCache.class,
+                KeyRing.class);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.demo.config;
+
+import com.example.demo.dto.response.ResponseJsonWriter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * LoginResponse / Response 응답을 ResponseJsonWriter 로 바로 쓰는 converter (쓰기 전용)
+ * MappingJackson2HttpMessageConverter 보다 앞에 등록한다. (WebConfig)
+ */
+public class ResponseJsonHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private final ResponseJsonWriter responseJsonWriter;
+
+    public ResponseJsonHttpMessageConverter(ResponseJsonWriter responseJsonWriter) {
+        super(MediaType.APPLICATION_JSON);
+        this.responseJsonWriter = responseJsonWriter;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ResponseJsonWriter.supports(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("응답 전용 converter 입니다.", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        responseJsonWriter.write(value, outputMessage.getBody());
+    }
+}
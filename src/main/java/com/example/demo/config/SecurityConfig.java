@@ -1,53 +1,38 @@
 package com.example.demo.config;
 
+import com.example.demo.metrics.AuthMetrics;
 import com.example.demo.security.JwtAccessDeniedHandler;
+import com.example.demo.security.ErrorResponseWriter;
 import com.example.demo.security.JwtAuthenticationEntryPoint;
 import com.example.demo.security.JwtFilter;
 import com.example.demo.security.JwtProvider;
-import com.example.demo.service.MemberService;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.demo.security.RevokedTokenDenylist;
+import com.example.demo.security.SecurityEventLog;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.annotation.Bean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.builders.WebSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @EnableWebSecurity
 @EnableGlobalMethodSecurity(prePostEnabled = true, securedEnabled = true)
 @RequiredArgsConstructor
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
-    private final MemberService memberService;
     private final JwtProvider jwtProvider;
-    private final PasswordEncoder passwordEncoder;
-    private final ObjectMapper objectMapper;
+    private final ErrorResponseWriter errorResponseWriter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
-
-    /**
-     * AuthenticationManager 를 외부에서 사용하기 위해 @Bean
-     */
-    @Bean
-    @Override
-    public AuthenticationManager authenticationManagerBean() throws Exception {
-        return super.authenticationManagerBean();
-    }
-
-    @Override
-    protected void configure(AuthenticationManagerBuilder auth) throws Exception {
-        auth
-                .userDetailsService(memberService) //내가 작성한 UserDetailsService 사용
-                .passwordEncoder(passwordEncoder); // 내가 빈으로 정의한 passwordEncoder 사용
-    }
+    private final RevokedTokenDenylist revokedTokenDenylist;
+    private final AuthMetrics authMetrics;
+    private final SecurityEventLog securityEventLog;
 
     @Override
     protected void configure(HttpSecurity http) throws Exception {
@@ -58,7 +43,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .sessionManagement()
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 .and()
-                .addFilterBefore(new JwtFilter(jwtProvider, objectMapper), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtFilter(jwtProvider, errorResponseWriter, revokedTokenDenylist, authMetrics, securityEventLog), UsernamePasswordAuthenticationFilter.class)
                 .exceptionHandling()
                 .accessDeniedHandler(jwtAccessDeniedHandler)
                 .authenticationEntryPoint(jwtAuthenticationEntryPoint);
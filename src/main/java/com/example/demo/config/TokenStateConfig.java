@@ -0,0 +1,24 @@
+package com.example.demo.config;
+
+import com.example.demo.service.InMemoryTokenStateStore;
+import com.example.demo.service.TokenStateStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * token-state.store=memory 일 때의 토큰 상태 저장소
+ * 이미 등록된 TokenStateStore 가 있으면 그것을 쓴다. (여러 context 가 하나의 저장소를 공유하는 테스트)
+ * jpa 는 JpaTokenStateStore 가 직접 등록된다.
+ */
+@Configuration
+public class TokenStateConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "token-state.store", havingValue = "memory")
+    @ConditionalOnMissingBean(TokenStateStore.class)
+    public InMemoryTokenStateStore inMemoryTokenStateStore() {
+        return new InMemoryTokenStateStore();
+    }
+}
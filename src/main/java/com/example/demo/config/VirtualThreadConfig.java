@@ -0,0 +1,43 @@
+package com.example.demo.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Tomcat 요청 처리를 virtual thread 로 실행 (spring.threads.virtual.enabled=true, JDK 21 이상)
+ * 요청 스레드에서 실행되는 JPA / JDBC 호출(refreshToken, logout 등)이 platform thread 를 붙잡지 않으므로
+ * 동시 요청 수가 Tomcat thread pool 크기로 제한되지 않는다. (maxConnections 로 제한)
+ * BCrypt 는 CPU 작업이므로 계속 PasswordHashingExecutor 의 코어 수 만큼의 스레드에서 실행한다.
+ * virtual thread 는 요청마다 새로 만들어지므로 스레드별로 재사용하던 ThreadLocal 객체 (SigningKey 의 Mac, TokenDigest 의 MessageDigest,
+ * TokenMinter / Hs256TokenVerifier 의 buffer) 는 요청마다 새로 할당된다. (platform thread 모드보다 요청당 할당이 늘어남)
+ * 빌드 대상은 Java 11 이므로 JDK 21 API 는 reflection 으로 호출한다.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("virtual thread 는 JDK 21 이상에서만 사용할 수 있습니다. (현재 "
+                    + System.getProperty("java.version") + ")", e);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("virtual thread executor 를 만들 수 없습니다.", e);
+        }
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(ExecutorService virtualThreadExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+    }
+}
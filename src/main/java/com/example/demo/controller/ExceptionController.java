@@ -1,8 +1,12 @@
 package com.example.demo.controller;
 
 import com.example.demo.dto.response.Response;
+import com.example.demo.exception.BatchTooLargeException;
 import com.example.demo.exception.InvalidRefreshTokenException;
+import com.example.demo.exception.ServerBusyException;
+import com.example.demo.exception.TooManyRequestsException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -30,4 +34,33 @@ public class ExceptionController {
                 .build();
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
     }
+
+    @ExceptionHandler(ServerBusyException.class)
+    public ResponseEntity serverBusy(Exception e) {
+        Response response = Response.builder()
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .message(e.getMessage())
+                .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
+    @ExceptionHandler(BatchTooLargeException.class)
+    public ResponseEntity batchTooLarge(Exception e) {
+        Response response = Response.builder()
+                .status(HttpStatus.PAYLOAD_TOO_LARGE.value())
+                .message(e.getMessage())
+                .build();
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(response);
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity tooManyRequests(TooManyRequestsException e) {
+        Response response = Response.builder()
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .message(e.getMessage())
+                .build();
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(response);
+    }
 }
@@ -0,0 +1,67 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.response.IntrospectionResponse;
+import com.example.demo.exception.BatchTooLargeException;
+import com.example.demo.security.TokenIntrospector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 하위 서비스용 토큰 일괄 검증
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+@RequestMapping("/api/introspect")
+public class IntrospectionController {
+
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private final TokenIntrospector tokenIntrospector;
+
+    /**
+     * JSON 배열로 받은 토큰 검증
+     * @param tokens ["token1", "token2", ...]
+     * @return 요청 순서와 같은 순서의 검증 결과
+     */
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public List<IntrospectionResponse> introspect(@RequestBody List<String> tokens) {
+        return tokenIntrospector.introspect(tokens);
+    }
+
+    /**
+     * NDJSON (한 줄에 토큰 하나, 따옴표는 있어도 없어도 됨) 으로 받은 토큰 검증
+     * @param request 요청 body 를 줄 단위로 읽음
+     * @return 요청 순서와 같은 순서의 검증 결과
+     */
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PostMapping(consumes = APPLICATION_NDJSON_VALUE)
+    public List<IntrospectionResponse> introspectNdjson(HttpServletRequest request) throws IOException {
+        int maxBatchSize = tokenIntrospector.getMaxBatchSize();
+        List<String> tokens = new ArrayList<>();
+        BufferedReader reader = request.getReader();
+        for(String line; (line = reader.readLine()) != null; ) {
+            line = line.trim();
+            if(line.isEmpty()) continue;
+            if(tokens.size() == maxBatchSize)
+                throw new BatchTooLargeException("한번에 검증할 수 있는 토큰은 " + maxBatchSize + "개 까지입니다.");
+            if(line.length() >= 2 && line.charAt(0) == '"' && line.charAt(line.length() - 1) == '"')
+                line = line.substring(1, line.length() - 1);
+            tokens.add(line);
+        }
+        return tokenIntrospector.introspect(tokens);
+    }
+}
@@ -5,91 +5,98 @@ import com.example.demo.dto.LoginDTO;
 import com.example.demo.dto.RefreshTokenDTO;
 import com.example.demo.dto.response.LoginResponse;
 import com.example.demo.dto.response.Response;
-import com.example.demo.security.JwtProvider;
+import com.example.demo.security.ClientAddressResolver;
+import com.example.demo.security.LoginRateLimiter;
+import com.example.demo.security.VerifiedToken;
+import com.example.demo.service.LoginService;
 import com.example.demo.service.MemberService;
+import com.example.demo.service.RefreshTokenCoordinator;
 import lombok.RequiredArgsConstructor;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDateTime;
+import javax.servlet.http.HttpServletRequest;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.concurrent.CompletableFuture;
 
 
 @Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 @CrossOrigin(value = "*", maxAge = 3600)
 @RequestMapping("/api")
 public class MemberController {
 
-    private final Logger log = LoggerFactory.getLogger(MemberController.class);
     private final MemberService memberService;
-    private final JwtProvider jwtProvider;
-    private final AuthenticationManager authenticationManager;
+    private final LoginService loginService;
+    private final RefreshTokenCoordinator refreshTokenCoordinator;
+    private final LoginRateLimiter loginRateLimiter;
+    private final ClientAddressResolver clientAddressResolver;
 
 
     /**
-     * 회원 가입
+     * 회원 가입 (해싱 / 저장은 PasswordHashingExecutor / LoginIoExecutor 에서 처리하고 요청 스레드는 바로 반환)
      * @param form 회원가입 form
      * @return json response
      */
     @PostMapping("/members")
-    @ResponseStatus(HttpStatus.CREATED)
-    public Response signUp(@RequestBody MemberForm form) {
-        memberService.signUp(form);
-
-        return Response.builder()
+    public CompletableFuture<ResponseEntity> signUp(@RequestBody MemberForm form) {
+        return memberService.signUp(form).thenApply(done -> ResponseEntity.status(HttpStatus.CREATED).body(Response.builder()
                 .status(HttpStatus.CREATED.value())
-                .message("회원 가입 성공").build();
+                .message("회원 가입 성공").build()));
     }
 
     /**
-     * 로그인
+     * 로그인 (IP / 아이디 별 요청 제한 후 회원 조회만 요청 스레드에서 하고
+     * 비밀번호 검증 / 토큰 발급은 PasswordHashingExecutor / LoginIoExecutor 에서 처리)
      * @param loginDTO 로그인 요청 dto
+     * @param request 요청 IP 확인용
      * @return json response
      */
     @PostMapping("/login")
-    public ResponseEntity login(@RequestBody LoginDTO loginDTO) {
-
-        UsernamePasswordAuthenticationToken authenticationToken =
-                new UsernamePasswordAuthenticationToken(loginDTO.getUsername(), loginDTO.getPassword());
-
-        //아이디 체크는 Authentication에 사용자 입력 아이디, 비밀번호를 입력해야됨
-        Authentication authentication = authenticationManager.authenticate(authenticationToken);
-        log.info(authentication + " 로그인 처리 authentication");
-
-        //jwt accessToken & refreshToken 발급
-        String accessToken = jwtProvider.generateToken(authentication, false);
-        String refreshToken = jwtProvider.generateToken(authentication, true);
-
-        //회원 DB에 refreshToken 저장
-        memberService.findMemberAndSaveRefreshToken(authentication.getName(), refreshToken);
-
-        LoginResponse response = LoginResponse.builder()
-                .status(HttpStatus.OK.value())
-                .message("로그인 성공")
-                .accessToken(accessToken)
-                .expiredAt(LocalDateTime.now().plusSeconds(jwtProvider.getAccessTokenValidMilliSeconds()/1000))
-                .refreshToken(refreshToken)
-                .issuedAt(LocalDateTime.now())
-                .build();
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity> login(@RequestBody LoginDTO loginDTO, HttpServletRequest request) {
+        String clientIp = clientIp(request);
+        loginRateLimiter.checkLogin(clientIp, loginDTO.getUsername());
+        return loginService.login(loginDTO, clientIp).thenApply(ResponseEntity::ok);
     }
 
     /**
-     * refreshToken으로 accessToken 재발급
+     * refreshToken으로 accessToken 재발급 (같은 토큰의 동시 요청은 RefreshTokenCoordinator 가 하나로 합침)
      * @param refreshTokenDTO accessToken 재발급 요청 DTO
+     * @param request 요청 IP 확인용
      * @return json response
      */
     @PostMapping("/refreshToken")
-    public ResponseEntity refreshToken(@RequestBody RefreshTokenDTO refreshTokenDTO) {
-        LoginResponse response = memberService.refreshToken(refreshTokenDTO);
+    public ResponseEntity refreshToken(@RequestBody RefreshTokenDTO refreshTokenDTO, HttpServletRequest request) {
+        String clientIp = clientIp(request);
+        loginRateLimiter.checkRefresh(clientIp);
+        LoginResponse response = refreshTokenCoordinator.refresh(refreshTokenDTO, clientIp);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 로그아웃 (요청에 사용된 accessToken 폐기, refreshToken 세션 삭제)
+     * @param authentication JwtFilter 가 세팅한 Authentication (details 에 VerifiedToken)
+     * @param refreshTokenDTO 로그아웃할 기기의 refreshToken (body 가 없으면 모든 기기 로그아웃)
+     * @param request 요청 IP 확인용
+     * @return json response
+     */
+    @PostMapping("/logout")
+    public ResponseEntity logout(Authentication authentication, @RequestBody(required = false) RefreshTokenDTO refreshTokenDTO,
+                                 HttpServletRequest request) {
+        memberService.logout((VerifiedToken) authentication.getDetails(), refreshTokenDTO == null ? null : refreshTokenDTO.getRefreshToken(),
+                clientIp(request));
+
+        Response response = Response.builder()
+                .status(HttpStatus.OK.value())
+                .message("로그아웃 성공")
+                .build();
         return ResponseEntity.ok(response);
     }
 
@@ -106,4 +113,10 @@ public class MemberController {
                 .build();
         return ResponseEntity.ok(response);
     }
+
+    private String clientIp(HttpServletRequest request) {
+        Enumeration<String> forwardedFor = request.getHeaders(ClientAddressResolver.FORWARDED_FOR);
+        return clientAddressResolver.resolve(request.getRemoteAddr(),
+                forwardedFor == null || !forwardedFor.hasMoreElements() ? null : String.join(",", Collections.list(forwardedFor)));
+    }
 }
@@ -0,0 +1,59 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.response.MemberImportResponse;
+import com.example.demo.service.MemberImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 회원 일괄 가입 (NDJSON / CSV, 요청 body 를 줄 단위로 읽으며 처리)
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+@RequestMapping("/api/members/import")
+public class MemberImportController {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final MemberImportService memberImportService;
+
+    /**
+     * NDJSON 일괄 가입
+     * @param request 한 줄에 {"username":"..","password":"..","name":".."} 하나
+     * @return 가입 / 실패 건수와 실패한 행
+     */
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PostMapping(consumes = IntrospectionController.APPLICATION_NDJSON_VALUE)
+    public MemberImportResponse importNdjson(HttpServletRequest request) throws IOException {
+        return memberImportService.importNdjson(reader(request));
+    }
+
+    /**
+     * CSV 일괄 가입
+     * @param request username,password,name (header 줄은 있어도 없어도 됨)
+     * @return 가입 / 실패 건수와 실패한 행
+     */
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PostMapping(consumes = TEXT_CSV_VALUE)
+    public MemberImportResponse importCsv(HttpServletRequest request) throws IOException {
+        return memberImportService.importCsv(reader(request));
+    }
+
+    //charset 이 없으면 servlet 기본값(ISO-8859-1) 대신 UTF-8
+    private static BufferedReader reader(HttpServletRequest request) throws IOException {
+        Charset charset = request.getCharacterEncoding() == null ? StandardCharsets.UTF_8 : Charset.forName(request.getCharacterEncoding());
+        return new BufferedReader(new InputStreamReader(request.getInputStream(), charset));
+    }
+}
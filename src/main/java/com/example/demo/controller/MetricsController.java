@@ -0,0 +1,148 @@
+package com.example.demo.controller;
+
+import com.example.demo.metrics.AuthMetrics;
+import com.example.demo.metrics.LatencyHistogram;
+import com.example.demo.security.LoginRateLimiter;
+import com.example.demo.security.RevokedTokenDenylist;
+import com.example.demo.security.SecurityEventLog;
+import com.example.demo.security.TokenAuthenticationCache;
+import com.example.demo.service.JpaTokenStateStore;
+import com.example.demo.service.LoginIoExecutor;
+import com.example.demo.service.PasswordHashingExecutor;
+import com.example.demo.service.RefreshTokenCoordinator;
+import com.example.demo.service.TokenStateNearCache;
+import com.example.demo.service.UserDetailsCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 인증 지표 조회 (actuator 형식 JSON / Prometheus text)
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final AuthMetrics authMetrics;
+    private final TokenAuthenticationCache tokenAuthenticationCache;
+    private final UserDetailsCache userDetailsCache;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final LoginIoExecutor loginIoExecutor;
+    private final ObjectProvider<JpaTokenStateStore> jpaTokenStateStore; // token-state.store=jpa 일 때만 있음
+    private final TokenStateNearCache tokenStateNearCache;
+    private final RevokedTokenDenylist revokedTokenDenylist;
+    private final RefreshTokenCoordinator refreshTokenCoordinator;
+    private final LoginRateLimiter loginRateLimiter;
+    private final SecurityEventLog securityEventLog;
+
+    /**
+     * JSON 형식 지표
+     * @return 히스토그램 요약 (nanoseconds) 과 gauge 값
+     */
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping
+    public Map<String, Object> metrics() {
+        Map<String, Object> histograms = new LinkedHashMap<>();
+        authMetrics.getHistograms().forEach((name, histogram) -> {
+            LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", snapshot.getCount());
+            summary.put("mean_ns", snapshot.getMean());
+            summary.put("p50_ns", snapshot.percentile(0.5));
+            summary.put("p90_ns", snapshot.percentile(0.9));
+            summary.put("p99_ns", snapshot.percentile(0.99));
+            summary.put("p999_ns", snapshot.percentile(0.999));
+            summary.put("max_ns", snapshot.getMax());
+            histograms.put(name, summary);
+        });
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("histograms", histograms);
+        response.put("gauges", gauges());
+        return response;
+    }
+
+    /**
+     * Prometheus text 형식 지표 (histogram 은 summary 로 노출)
+     * @return text exposition format 0.0.4
+     */
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping(value = "/prometheus", produces = "text/plain; version=0.0.4; charset=utf-8")
+    public String prometheus() {
+        StringBuilder sb = new StringBuilder(8192);
+        String previousName = null;
+        for(Map.Entry<String, LatencyHistogram> entry : authMetrics.getHistograms().entrySet()) {
+            String key = entry.getKey();
+            int labelStart = key.indexOf('{');
+            String name = labelStart < 0 ? key : key.substring(0, labelStart);
+            String labels = labelStart < 0 ? "" : key.substring(labelStart + 1, key.length() - 1);
+            if(!name.equals(previousName)) sb.append("# TYPE ").append(name).append(" summary\n");
+            previousName = name;
+
+            LatencyHistogram.Snapshot snapshot = entry.getValue().snapshot();
+            for(double quantile : QUANTILES) {
+                sb.append(name).append('{');
+                if(!labels.isEmpty()) sb.append(labels).append(',');
+                sb.append("quantile=\"").append(quantile).append("\"} ")
+                        .append(snapshot.percentile(quantile) / 1e9).append('\n');
+            }
+            String labelSuffix = labels.isEmpty() ? "" : "{" + labels + "}";
+            sb.append(name).append("_sum").append(labelSuffix).append(' ').append(snapshot.getSum() / 1e9).append('\n');
+            sb.append(name).append("_count").append(labelSuffix).append(' ').append(snapshot.getCount()).append('\n');
+        }
+        gauges().forEach((name, value) -> sb.append("# TYPE ").append(name).append(name.endsWith("_total") ? " counter\n" : " gauge\n")
+                .append(name).append(' ').append(value).append('\n'));
+        return sb.toString();
+    }
+
+    private Map<String, Number> gauges() {
+        Map<String, Number> gauges = new LinkedHashMap<>();
+        gauges.put("auth_token_cache_hits_total", tokenAuthenticationCache.getHitCount());
+        gauges.put("auth_token_cache_misses_total", tokenAuthenticationCache.getMissCount());
+        gauges.put("auth_token_cache_evictions_total", tokenAuthenticationCache.getEvictionCount());
+        gauges.put("auth_token_cache_size", tokenAuthenticationCache.size());
+        gauges.put("auth_user_cache_hit_ratio", userDetailsCache.getHitRatio());
+        gauges.put("auth_user_cache_loads_total", userDetailsCache.getLoadCount());
+        gauges.put("auth_user_cache_load_seconds_total", userDetailsCache.getTotalLoadNanos() / 1e9);
+        gauges.put("auth_user_cache_size", userDetailsCache.size());
+        gauges.put("auth_password_hashing_queue_depth", passwordHashingExecutor.getQueueDepth());
+        gauges.put("auth_password_hashing_active", passwordHashingExecutor.getActiveCount());
+        gauges.put("auth_password_hashing_completed_total", passwordHashingExecutor.getCompletedCount());
+        gauges.put("auth_password_hashing_rejected_total", passwordHashingExecutor.getRejectedCount());
+        gauges.put("auth_password_hashing_wait_seconds_total", passwordHashingExecutor.getTotalWaitNanos() / 1e9);
+        gauges.put("auth_password_hashing_wait_seconds_max", passwordHashingExecutor.getMaxWaitNanos() / 1e9);
+        gauges.put("auth_login_io_queue_depth", loginIoExecutor.getQueueDepth());
+        gauges.put("auth_login_io_active", loginIoExecutor.getActiveCount());
+        gauges.put("auth_login_io_rejected_total", loginIoExecutor.getRejectedCount());
+        jpaTokenStateStore.ifAvailable(store -> {
+            gauges.put("auth_refresh_sessions_scheduled", store.getScheduledCount());
+            gauges.put("auth_refresh_sessions_purged_total", store.getPurgedCount());
+            gauges.put("auth_refresh_session_wheel_bytes", store.getWheelBytes());
+            gauges.put("auth_refresh_session_pending_inserts", store.getPendingInsertCount());
+            gauges.put("auth_token_state_events_received_total", store.getReceivedEventCount());
+        });
+        gauges.put("auth_token_state_near_cache_hits_total", tokenStateNearCache.getHitCount());
+        gauges.put("auth_token_state_near_cache_misses_total", tokenStateNearCache.getMissCount());
+        gauges.put("auth_token_state_invalidations_total", tokenStateNearCache.getInvalidationCount());
+        gauges.put("auth_token_state_near_cache_size", tokenStateNearCache.size());
+        gauges.put("auth_refresh_token_coalesced_total", refreshTokenCoordinator.getCoalescedCount());
+        gauges.put("auth_revoked_tokens_total", revokedTokenDenylist.getRevokedCount());
+        gauges.put("auth_revocation_false_positives_total", revokedTokenDenylist.getFalsePositiveCount());
+        gauges.put("auth_rate_limit_rejected_total", loginRateLimiter.getRejectedCount());
+        gauges.put("auth_rate_limit_keys", loginRateLimiter.size());
+        gauges.put("auth_security_events_logged_total", securityEventLog.getLoggedCount());
+        gauges.put("auth_security_events_dropped_total", securityEventLog.getDroppedCount());
+        return gauges;
+    }
+}
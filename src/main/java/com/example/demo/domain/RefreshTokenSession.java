@@ -0,0 +1,55 @@
+package com.example.demo.domain;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+import javax.persistence.*;
+
+/**
+ * 기기(로그인) 별 refreshToken 세션
+ * 재발급 시 같은 행의 token_hash 와 expires_at 만 바뀐다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "refresh_token_session", indexes = {
+        @Index(name = "ux_refresh_token_session_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "ix_refresh_token_session_username", columnList = "username"),
+        @Index(name = "ix_refresh_token_session_expires_at", columnList = "expires_at")
+})
+public class RefreshTokenSession {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_token_session_id_generator")
+    @GenericGenerator(name = "refresh_token_session_id_generator", strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator", parameters = {
+            @Parameter(name = "sequence_name", value = "refresh_token_session_seq"),
+            @Parameter(name = "increment_size", value = "50"),
+            @Parameter(name = "optimizer", value = "pooled-lo")
+    })
+    @Column(name = "session_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String username;
+
+    //refreshToken 원본 대신 SHA-256 digest 저장 (TokenDigest)
+    @Column(name = "token_hash", nullable = false, columnDefinition = "binary(32)")
+    private byte[] tokenHash;
+
+    @Column(name = "expires_at", nullable = false)
+    private long expiresAt; // epoch millis
+
+    @Column(name = "created_at", nullable = false)
+    private long createdAt; // epoch millis
+
+    @Builder
+    public RefreshTokenSession(String username, byte[] tokenHash, long expiresAt, long createdAt) {
+        this.username = username;
+        this.tokenHash = tokenHash;
+        this.expiresAt = expiresAt;
+        this.createdAt = createdAt;
+    }
+}
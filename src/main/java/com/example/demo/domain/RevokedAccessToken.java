@@ -0,0 +1,33 @@
+package com.example.demo.domain;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 로그아웃으로 폐기된 accessToken (jti)
+ * 토큰 만료 시각이 지나면 삭제해도 된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "revoked_access_token", indexes = {
+        @Index(name = "ix_revoked_access_token_expires_at", columnList = "expires_at")
+})
+public class RevokedAccessToken {
+    @Id
+    @Column(name = "token_id", length = 64)
+    private String tokenId;
+
+    @Column(name = "expires_at", nullable = false)
+    private long expiresAt; // epoch millis
+
+    @Builder
+    public RevokedAccessToken(String tokenId, long expiresAt) {
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+    }
+}
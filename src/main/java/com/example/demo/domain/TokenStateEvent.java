@@ -0,0 +1,52 @@
+package com.example.demo.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 다른 인스턴스에 알릴 토큰 상태 변경 (JpaTokenStateStore 가 변경과 같은 transaction 에서 기록하고 각 인스턴스가 event_id 순서로 읽음)
+ * 보관 기간이 지나면 삭제한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "token_state_event", indexes = {
+        @Index(name = "ix_token_state_event_created_at", columnList = "created_at")
+})
+public class TokenStateEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long id;
+
+    //변경한 인스턴스 (자기 변경은 commit 후 바로 알렸으므로 건너뜀)
+    @Column(name = "node_id", nullable = false, length = 36)
+    private String nodeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 32)
+    private Type type;
+
+    private String username;
+
+    @Column(name = "token_hash", columnDefinition = "binary(32)")
+    private byte[] tokenHash;
+
+    @Column(name = "token_id", length = 64)
+    private String tokenId;
+
+    @Column(name = "expires_at", nullable = false)
+    private long expiresAt; // epoch millis (accessToken 폐기만)
+
+    @Column(name = "created_at", nullable = false)
+    private long createdAt; // epoch millis
+
+    public enum Type {
+        REFRESH_TOKEN_INVALIDATED,
+        REFRESH_TOKENS_INVALIDATED,
+        ACCESS_TOKEN_REVOKED
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IntrospectionResponse {
+    private boolean active;
+    private String sub;
+    private List<String> roles;
+    private Long exp; // 만료 시간 (epoch seconds)
+    private String error; // 실패 사유 (SecurityError 이름)
+}
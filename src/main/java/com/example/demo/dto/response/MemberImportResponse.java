@@ -0,0 +1,27 @@
+package com.example.demo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class MemberImportResponse {
+    private int status;
+    private String message;
+    private long imported; // 가입된 회원 수
+    private long failed; // 실패한 행 수
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private List<Failure> failures; // 실패한 행 (최대 member-import.max-reported-failures 개)
+
+    @Data
+    @AllArgsConstructor
+    public static class Failure {
+        private long line; // 요청 body 의 줄 번호 (1 부터)
+        private String username;
+        private String reason;
+    }
+}
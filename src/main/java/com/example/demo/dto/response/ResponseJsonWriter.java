@@ -0,0 +1,88 @@
+package com.example.demo.dto.response;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * LoginResponse / Response 직렬화 (로그인, refreshToken 재발급 등 성공 응답)
+ * ObjectMapper 의 serializer 탐색 / bean 조회 없이 JsonGenerator 로 필드를 순서대로 바로 쓴다.
+ * 필드 이름과 순서, null, 날짜 형식 (ISO_LOCAL_DATE_TIME) 은 Spring 기본 ObjectMapper 의 출력과 같다.
+ */
+public class ResponseJsonWriter {
+
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString ACCESS_TOKEN = new SerializedString("accessToken");
+    private static final SerializedString EXPIRED_AT = new SerializedString("expiredAt");
+    private static final SerializedString REFRESH_TOKEN = new SerializedString("refreshToken");
+    private static final SerializedString ISSUED_AT = new SerializedString("issuedAt");
+
+    private final JsonFactory jsonFactory;
+
+    /**
+     * @param jsonFactory 애플리케이션 ObjectMapper 의 JsonFactory (escape 등 generator 설정을 맞추기 위해)
+     */
+    public ResponseJsonWriter(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * 직렬화 가능한 타입인지 (하위 타입은 필드가 다를 수 있어 제외)
+     */
+    public static boolean supports(Class<?> type) {
+        return type == LoginResponse.class || type == Response.class;
+    }
+
+    /**
+     * UTF-8 JSON 쓰기 (out 은 닫지 않음)
+     * @param value LoginResponse 또는 Response
+     * @param out 응답 body
+     * @throws IOException
+     */
+    public void write(Object value, OutputStream out) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if(value instanceof LoginResponse) write(generator, (LoginResponse) value);
+            else write(generator, (Response) value);
+        }
+    }
+
+    private static void write(JsonGenerator generator, LoginResponse response) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(STATUS);
+        generator.writeNumber(response.getStatus());
+        generator.writeFieldName(MESSAGE);
+        generator.writeString(response.getMessage());
+        generator.writeFieldName(ACCESS_TOKEN);
+        generator.writeString(response.getAccessToken());
+        generator.writeFieldName(EXPIRED_AT);
+        writeDateTime(generator, response.getExpiredAt());
+        generator.writeFieldName(REFRESH_TOKEN);
+        generator.writeString(response.getRefreshToken());
+        generator.writeFieldName(ISSUED_AT);
+        writeDateTime(generator, response.getIssuedAt());
+        generator.writeEndObject();
+    }
+
+    private static void write(JsonGenerator generator, Response response) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(STATUS);
+        generator.writeNumber(response.getStatus());
+        generator.writeFieldName(MESSAGE);
+        generator.writeString(response.getMessage());
+        generator.writeEndObject();
+    }
+
+    //jackson-datatype-jsr310 LocalDateTimeSerializer 기본 형식 (WRITE_DATES_AS_TIMESTAMPS 끔)
+    private static void writeDateTime(JsonGenerator generator, LocalDateTime value) throws IOException {
+        if(value == null) generator.writeNull();
+        else generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+    }
+}
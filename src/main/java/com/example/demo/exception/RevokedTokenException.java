@@ -0,0 +1,5 @@
+package com.example.demo.exception;
+
+public class RevokedTokenException extends RuntimeException {
+    public RevokedTokenException(String message) { super(message); }
+}
@@ -0,0 +1,5 @@
+package com.example.demo.exception;
+
+public class ServerBusyException extends RuntimeException {
+    public ServerBusyException(String message) { super(message); }
+}
@@ -0,0 +1,65 @@
+package com.example.demo.metrics;
+
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 인증 흐름 지연시간 / 결과 지표
+ * key 는 Prometheus 이름 + label 형식 (예: auth_jwt_filter_seconds{outcome="expired"})
+ */
+@Component
+@Getter
+public class AuthMetrics {
+
+    /**
+     * JwtFilter 처리 결과
+     */
+    public enum FilterOutcome {
+        OK, TOKEN_NOT_FOUND, MALFORMED, EXPIRED, UNSUPPORTED, SIGNATURE, REVOKED
+    }
+
+    private final LatencyHistogram[] filter = new LatencyHistogram[FilterOutcome.values().length];
+    private final LatencyHistogram tokenGeneration = new LatencyHistogram();
+    private final LatencyHistogram tokenVerification = new LatencyHistogram();
+    private final LatencyHistogram refreshToken = new LatencyHistogram();
+    private final LatencyHistogram loginUserLookup = new LatencyHistogram();
+    private final LatencyHistogram loginPasswordCheck = new LatencyHistogram();
+    private final LatencyHistogram loginTokenMinting = new LatencyHistogram();
+    private final LatencyHistogram loginRefreshTokenSave = new LatencyHistogram();
+
+    private final Map<String, LatencyHistogram> histograms;
+
+    public AuthMetrics() {
+        Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+        for(FilterOutcome outcome : FilterOutcome.values()) {
+            filter[outcome.ordinal()] = new LatencyHistogram();
+            histograms.put("auth_jwt_filter_seconds{outcome=\"" + outcome.name().toLowerCase(Locale.ROOT) + "\"}", filter[outcome.ordinal()]);
+        }
+        histograms.put("auth_jwt_generate_seconds", tokenGeneration);
+        histograms.put("auth_jwt_verify_seconds", tokenVerification);
+        histograms.put("auth_refresh_token_seconds", refreshToken);
+        histograms.put("auth_login_seconds{phase=\"user_lookup\"}", loginUserLookup);
+        histograms.put("auth_login_seconds{phase=\"password_check\"}", loginPasswordCheck);
+        histograms.put("auth_login_seconds{phase=\"token_minting\"}", loginTokenMinting);
+        histograms.put("auth_login_seconds{phase=\"refresh_token_save\"}", loginRefreshTokenSave);
+        this.histograms = Collections.unmodifiableMap(histograms);
+    }
+
+    /**
+     * JwtFilter 처리 시간 기록
+     * @param outcome 처리 결과
+     * @param startNanos System.nanoTime() 으로 잰 시작 시점
+     */
+    public void recordFilter(FilterOutcome outcome, long startNanos) {
+        filter[outcome.ordinal()].recordSince(startNanos);
+    }
+
+    public LatencyHistogram getFilter(FilterOutcome outcome) {
+        return filter[outcome.ordinal()];
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.demo.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * lock-free 지연시간 히스토그램 (nanoseconds)
+ * 2의 거듭제곱 구간을 8개로 나눈 log-linear bucket 을 사용해 상대 오차 12.5% 이내로 분위수를 구한다.
+ * record 는 bucket 계산 한번과 atomic increment 만 하므로 필터 같은 hot path 에서 써도 된다.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40; // 약 1100초
+    static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * 지연시간 기록
+     * @param nanos 걸린 시간 (nanoseconds)
+     */
+    public void record(long nanos) {
+        if(nanos < 0) nanos = 0;
+        counts.getAndIncrement(index(nanos));
+        sum.add(nanos);
+        long current;
+        while(nanos > (current = max.get()) && !max.compareAndSet(current, nanos)) {
+            //다른 스레드가 먼저 갱신하면 다시 비교
+        }
+    }
+
+    /**
+     * 시작 시점부터 지금까지 걸린 시간 기록
+     * @param startNanos System.nanoTime() 으로 잰 시작 시점
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long count = 0;
+        for(int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        return new Snapshot(copy, count, sum.sum(), max.get());
+    }
+
+    static int index(long value) {
+        if(value < SUB_BUCKETS) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if(exponent > MAX_EXPONENT) return BUCKETS - 1;
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS
+                + (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+    }
+
+    static long upperBound(int index) {
+        if(index < SUB_BUCKETS) return index;
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    /**
+     * 특정 시점의 히스토그램 값
+     */
+    public static class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        private Snapshot(long[] counts, long count, long sum, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getSum() {
+            return sum;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public double getMean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        /**
+         * 분위수
+         * @param quantile 0 ~ 1
+         * @return 해당 분위수가 속한 bucket 의 상한 (nanoseconds)
+         */
+        public long percentile(double quantile) {
+            if(count == 0) return 0;
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for(int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if(seen >= rank) return Math.min(upperBound(i), max);
+            }
+            return max;
+        }
+    }
+}
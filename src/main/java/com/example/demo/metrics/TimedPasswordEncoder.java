@@ -0,0 +1,37 @@
+package com.example.demo.metrics;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 로그인 비밀번호 검증(BCrypt) 시간을 재는 PasswordEncoder
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final LatencyHistogram matchesHistogram;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate, LatencyHistogram matchesHistogram) {
+        this.delegate = delegate;
+        this.matchesHistogram = matchesHistogram;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long startedAt = System.nanoTime();
+        try {
+            return delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            matchesHistogram.recordSince(startedAt);
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
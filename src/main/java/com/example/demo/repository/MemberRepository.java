@@ -5,6 +5,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -14,6 +16,7 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @Query("select m from Member m join fetch m.roles where m.username = :username")
     Optional<Member> findMemberByUsernameFetch(@Param("username") String username);
 
-    Optional<Member> findMemberByUsernameAndRefreshToken(String username, String refreshToken);
+    @Query("select m.username from Member m where m.username in :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
 
 }
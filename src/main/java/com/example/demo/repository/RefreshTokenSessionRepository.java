@@ -0,0 +1,59 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.RefreshTokenSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface RefreshTokenSessionRepository extends JpaRepository<RefreshTokenSession, Long> {
+
+    //사용된 토큰을 새 토큰으로 교체 (한 문장이라 같은 토큰으로 동시에 재발급해도 하나만 성공)
+    @Transactional
+    @Modifying
+    @Query("update RefreshTokenSession s set s.tokenHash = :newTokenHash, s.expiresAt = :expiresAt " +
+            "where s.tokenHash = :tokenHash and s.username = :username and s.expiresAt > :now")
+    int rotate(@Param("username") String username, @Param("tokenHash") byte[] tokenHash,
+               @Param("newTokenHash") byte[] newTokenHash, @Param("expiresAt") long expiresAt, @Param("now") long now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshTokenSession s where s.tokenHash = :tokenHash and s.username = :username")
+    int deleteByToken(@Param("username") String username, @Param("tokenHash") byte[] tokenHash);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshTokenSession s where s.username = :username")
+    int deleteByUsername(@Param("username") String username);
+
+    //timing wheel 이 만료 시점을 알려준 세션만 삭제 (재발급으로 연장된 세션은 남음)
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshTokenSession s where s.id in :ids and s.expiresAt <= :now")
+    int deleteExpired(@Param("ids") Collection<Long> ids, @Param("now") long now);
+
+    //시작 시 한번 (이전 실행에서 지우지 못한 만료 세션)
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshTokenSession s where s.expiresAt <= :now")
+    int deleteAllExpired(@Param("now") long now);
+
+    @Query("select s.expiresAt from RefreshTokenSession s where s.tokenHash = :tokenHash and s.username = :username")
+    Optional<Long> findExpiresAt(@Param("username") String username, @Param("tokenHash") byte[] tokenHash);
+
+    @Query("select s.id as id, s.expiresAt as expiresAt from RefreshTokenSession s where s.id in :ids")
+    List<SessionExpiry> findExpiries(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 세션 id 와 만료 시간 (timing wheel 재등록용 projection)
+     */
+    interface SessionExpiry {
+        Long getId();
+        long getExpiresAt();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.RevokedAccessToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, String> {
+
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedAccessToken t where t.expiresAt <= :now")
+    int deleteExpired(@Param("now") long now);
+
+    //시작 시 한번 (near-cache 채우기, accessToken 유효 시간 동안의 로그아웃 건수만큼)
+    List<RevokedAccessToken> findByExpiresAtGreaterThan(long now);
+}
@@ -0,0 +1,149 @@
+package com.example.demo.security;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 크기 제한이 있는 만료 시각 map (TokenAuthenticationCache, UserDetailsCache, TokenStateNearCache 공용)
+ * 가득 차면 만료된 항목을 먼저 지우고, 그래도 가득 차 있으면 만료 시각이 이른 (먼저 저장된) 항목부터 지워 90% 까지 줄인다.
+ * 정리는 한 스레드만 하고, 다른 스레드가 정리 중이면 기다리지 않고 이번 항목은 저장하지 않는다.
+ * (한번 정리하면 10% 가 비므로 정렬 비용은 저장 한번당 평균 O(log n))
+ */
+public class BoundedExpiryMap<K, V> {
+
+    private final int maxSize;
+    private final ToLongFunction<? super V> expiresAt;
+    private final ConcurrentHashMap<K, V> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * @param maxSize 최대 항목 수
+     * @param expiresAt 항목의 만료 시각 (epoch millis)
+     */
+    public BoundedExpiryMap(int maxSize, ToLongFunction<? super V> expiresAt) {
+        this.maxSize = maxSize;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * @return 항목 (만료 여부는 확인하지 않음), 없으면 null
+     */
+    public V get(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * 공간이 있으면 저장
+     * @param now 현재 시각 (epoch millis)
+     * @return 저장했는지 여부
+     */
+    public boolean tryPut(K key, V value, long now) {
+        if(!reserve(now)) return false;
+        entries.put(key, value);
+        return true;
+    }
+
+    /**
+     * 공간이 있고 항목이 없을 때만 저장
+     * @param now 현재 시각 (epoch millis)
+     * @return 이미 있던 항목, 없었으면 (저장하지 못한 경우 포함) null
+     */
+    public V tryPutIfAbsent(K key, V value, long now) {
+        V existing = entries.get(key);
+        if(existing != null || !reserve(now)) return existing;
+        return entries.putIfAbsent(key, value);
+    }
+
+    /**
+     * 크기와 관계없이 저장 (무효화 표시처럼 반드시 남겨야 하는 값)
+     */
+    public void put(K key, V value) {
+        entries.put(key, value);
+    }
+
+    public V remove(K key) {
+        return entries.remove(key);
+    }
+
+    /**
+     * 조회 중 만료를 확인한 항목 제거 (그 사이 바뀐 항목은 두고, 지웠으면 eviction 으로 셈)
+     */
+    public boolean expire(K key, V value) {
+        if(!entries.remove(key, value)) return false;
+        evictionCount.increment();
+        return true;
+    }
+
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        entries.replaceAll(function);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    private boolean reserve(long now) {
+        return entries.size() < maxSize || evict(now);
+    }
+
+    /**
+     * 만료된 항목을 지우고 그래도 90% 를 넘으면 만료 시각이 이른 항목부터 지움
+     * @return 저장할 공간이 생겼는지 여부
+     */
+    private boolean evict(long now) {
+        if(!evicting.compareAndSet(false, true)) return false;
+        try {
+            Iterator<V> iterator = entries.values().iterator();
+            while(iterator.hasNext()) {
+                if(expiresAt.applyAsLong(iterator.next()) <= now) {
+                    iterator.remove();
+                    evictionCount.increment();
+                }
+            }
+
+            int excess = entries.size() - (maxSize - maxSize / 10);
+            if(excess > 0) evictOldest(excess);
+            return entries.size() < maxSize;
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * 만료 시각이 이른 count 개 제거 (정리 중에 추가된 항목 때문에 배열보다 많이 읽지 않음)
+     */
+    private void evictOldest(int count) {
+        long[] expiries = new long[entries.size()];
+        int size = 0;
+        for(V value : entries.values()) {
+            if(size == expiries.length) break;
+            expiries[size++] = expiresAt.applyAsLong(value);
+        }
+        if(size == 0) return;
+        Arrays.sort(expiries, 0, size);
+        long cutoff = expiries[Math.min(count, size) - 1];
+
+        Iterator<V> iterator = entries.values().iterator();
+        for(int removed = 0; removed < count && iterator.hasNext(); ) {
+            if(expiresAt.applyAsLong(iterator.next()) <= cutoff) {
+                iterator.remove();
+                evictionCount.increment();
+                removed++;
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.demo.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 제한 key 로 쓸 클라이언트 IP
+ * 직접 연결한 주소가 신뢰하는 proxy (rate-limit.trusted-proxies) 일 때만 X-Forwarded-For 를 오른쪽부터 읽어
+ * 신뢰하는 proxy 가 아닌 첫 주소를 사용한다. 그 외에는 header 를 무시하므로 클라이언트가 값을 바꿔 제한을 피할 수 없다.
+ * IP 가 아닌 hop 을 만나면 그 앞은 읽지 않고 마지막으로 확인한 (신뢰하는 proxy) 주소를 사용한다.
+ */
+@Component
+public class ClientAddressResolver {
+
+    public static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    //IPv4 (각 자리 0~255) 또는 IPv6 (':' 포함), 이 형식이 아니면 InetAddress 가 DNS 조회를 하므로 matcher 에 넘기지 않음
+    private static final Pattern IPV4 = Pattern.compile("(25[0-5]|2[0-4]\\d|1?\\d?\\d)(\\.(25[0-5]|2[0-4]\\d|1?\\d?\\d)){3}");
+    private static final Pattern IPV6 = Pattern.compile("[0-9a-fA-F]*:[0-9a-fA-F:.]*");
+
+    private final List<IpAddressMatcher> trustedProxies = new ArrayList<>();
+
+    /**
+     * @param trustedProxies 신뢰하는 proxy 주소 (쉼표 구분, 10.0.0.0/8 같은 CIDR 가능, 비어 있으면 header 사용 안함)
+     */
+    public ClientAddressResolver(@Value("${rate-limit.trusted-proxies}") String trustedProxies) {
+        for(String proxy : trustedProxies.split(",")) {
+            if(!proxy.isBlank()) this.trustedProxies.add(new IpAddressMatcher(proxy.trim()));
+        }
+    }
+
+    /**
+     * @param remoteAddress 직접 연결한 주소
+     * @param forwardedFor X-Forwarded-For 값 (여러 header 는 쉼표로 이어 붙인 값, 없으면 null)
+     * @return 클라이언트 IP
+     */
+    public String resolve(String remoteAddress, String forwardedFor) {
+        if(forwardedFor == null || !isTrusted(remoteAddress)) return remoteAddress;
+
+        String[] hops = forwardedFor.split(",");
+        String client = remoteAddress;
+        for(int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if(hop.isEmpty()) continue;
+            if(!isAddress(hop)) break;
+            client = hop;
+            if(!isTrusted(hop)) break;
+        }
+        return client;
+    }
+
+    private boolean isTrusted(String address) {
+        if(address == null || trustedProxies.isEmpty() || !isAddress(address)) return false;
+        for(IpAddressMatcher proxy : trustedProxies) {
+            if(proxy.matches(address)) return true;
+        }
+        return false;
+    }
+
+    private static boolean isAddress(String address) {
+        if(IPV4.matcher(address).matches()) return true;
+        if(!IPV6.matcher(address).matches()) return false;
+        try {
+            //':' 가 있으면 IPv6 로만 해석 (DNS 조회 안함)
+            InetAddress.getByName(address);
+            return true;
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.example.demo.security;
+
+import io.jsonwebtoken.MalformedJwtException;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * jwt header / payload 같은 평평한 JSON 객체를 byte[] 위에서 바로 읽는 reader
+ * 필요한 필드만 꺼내고 나머지 값은 건너뛰므로 Map 을 만들지 않는다.
+ * 스레드마다 하나씩 재사용한다.
+ */
+final class CompactJsonReader {
+
+    //nextField / value 의 -1 (모르는 이름 / 값) 과 겹치지 않고 서로도 다른 값
+    static final int END = -2;
+    static final int NULL = -3;
+
+    private byte[] buf;
+    private int pos;
+    private int end;
+    private boolean first;
+
+    void reset(byte[] buf, int start, int end) {
+        this.buf = buf;
+        this.pos = start;
+        this.end = end;
+    }
+
+    /**
+     * 객체 시작 여부 확인
+     * @return '{' 로 시작하면 true (claims 가 아닌 일반 payload 면 false)
+     */
+    boolean beginObject() {
+        skipWhitespace();
+        if(pos >= end || buf[pos] != '{') return false;
+        pos++;
+        first = true;
+        return true;
+    }
+
+    /**
+     * 다음 필드 이름 읽기
+     * @param names 찾을 필드 이름들 (UTF-8)
+     * @return names 의 index, 모르는 이름이면 -1, 객체가 끝났으면 END
+     */
+    int nextField(byte[][] names) {
+        skipWhitespace();
+        if(peek() == '}') {
+            pos++;
+            return END;
+        }
+        if(!first) {
+            expect(',');
+            skipWhitespace();
+        }
+        first = false;
+
+        expect('"');
+        int start = pos;
+        boolean escaped = false;
+        while(peek() != '"') {
+            if(buf[pos] == '\\') {
+                escaped = true;
+                pos++;
+            }
+            pos++;
+        }
+        int nameEnd = pos++;
+        skipWhitespace();
+        expect(':');
+
+        if(escaped) {
+            String name = decodeString(start, nameEnd);
+            for(int i = 0; i < names.length; i++)
+                if(name.equals(new String(names[i], StandardCharsets.UTF_8))) return i;
+            return -1;
+        }
+        for(int i = 0; i < names.length; i++)
+            if(regionEquals(start, nameEnd, names[i])) return i;
+        return -1;
+    }
+
+    /**
+     * 문자열 값 읽기
+     * @return 문자열, JSON null 이면 null
+     */
+    String readString() {
+        skipWhitespace();
+        if(peek() == 'n') {
+            expectLiteral("null");
+            return null;
+        }
+        expect('"');
+        int start = pos;
+        boolean escaped = false;
+        while(peek() != '"') {
+            if(buf[pos] == '\\') {
+                escaped = true;
+                pos++;
+            }
+            pos++;
+        }
+        int stringEnd = pos++;
+        return escaped ? decodeString(start, stringEnd) : new String(buf, start, stringEnd - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 정해진 값 중 하나인 문자열 값을 할당 없이 읽기
+     * @param values 후보 값들 (UTF-8)
+     * @return values 의 index, 후보에 없으면 -1, JSON null 이면 NULL
+     */
+    int readEnum(byte[][] values) {
+        skipWhitespace();
+        if(peek() == 'n') {
+            expectLiteral("null");
+            return NULL;
+        }
+        expect('"');
+        int start = pos;
+        while(peek() != '"') {
+            if(buf[pos] == '\\') pos++;
+            pos++;
+        }
+        int stringEnd = pos++;
+        for(int i = 0; i < values.length; i++)
+            if(regionEquals(start, stringEnd, values[i])) return i;
+        return -1;
+    }
+
+    /**
+     * 숫자 값 읽기 (NumericDate 처럼 소수점이 붙은 값은 버림)
+     * @return 정수 값
+     */
+    long readLong() {
+        skipWhitespace();
+        int start = pos;
+        boolean negative = false;
+        if(peek() == '-') {
+            negative = true;
+            pos++;
+        }
+        long value = 0;
+        int digits = 0;
+        while(pos < end && buf[pos] >= '0' && buf[pos] <= '9') {
+            value = value * 10 + (buf[pos++] - '0');
+            digits++;
+        }
+        if(digits == 0 || digits > 18) throw malformed();
+        if(pos < end && (buf[pos] == '.' || buf[pos] == 'e' || buf[pos] == 'E')) {
+            while(pos < end && isNumberPart(buf[pos])) pos++;
+            try {
+                return (long) Double.parseDouble(new String(buf, start, pos - start, StandardCharsets.US_ASCII));
+            } catch (NumberFormatException e) {
+                throw malformed();
+            }
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * 관심 없는 값 건너뛰기
+     */
+    void skipValue() {
+        skipWhitespace();
+        byte b = peek();
+        if(b == '"') {
+            pos++;
+            skipStringBody();
+        } else if(b == '{' || b == '[') {
+            int depth = 0;
+            do {
+                b = peek();
+                if(b == '"') {
+                    pos++;
+                    skipStringBody();
+                    continue;
+                }
+                if(b == '{' || b == '[') depth++;
+                else if(b == '}' || b == ']') depth--;
+                pos++;
+            } while(depth > 0);
+        } else {
+            int start = pos;
+            while(pos < end && buf[pos] != ',' && buf[pos] != '}' && buf[pos] != ']' && !isWhitespace(buf[pos])) pos++;
+            if(pos == start) throw malformed();
+        }
+    }
+
+    private void skipStringBody() {
+        while(peek() != '"') {
+            if(buf[pos] == '\\') pos++;
+            pos++;
+        }
+        pos++;
+    }
+
+    private String decodeString(int start, int stringEnd) {
+        StringBuilder sb = new StringBuilder(stringEnd - start);
+        int segment = start;
+        int i = start;
+        while(i < stringEnd) {
+            if(buf[i] != '\\') {
+                i++;
+                continue;
+            }
+            sb.append(new String(buf, segment, i - segment, StandardCharsets.UTF_8));
+            if(i + 1 >= stringEnd) throw malformed();
+            byte escape = buf[i + 1];
+            switch(escape) {
+                case '"': sb.append('"'); break;
+                case '\\': sb.append('\\'); break;
+                case '/': sb.append('/'); break;
+                case 'b': sb.append('\b'); break;
+                case 'f': sb.append('\f'); break;
+                case 'n': sb.append('\n'); break;
+                case 'r': sb.append('\r'); break;
+                case 't': sb.append('\t'); break;
+                case 'u':
+                    if(i + 6 > stringEnd) throw malformed();
+                    int code = 0;
+                    for(int j = i + 2; j < i + 6; j++) code = (code << 4) | hex(buf[j]);
+                    sb.append((char) code);
+                    i += 4;
+                    break;
+                default: throw malformed();
+            }
+            i += 2;
+            segment = i;
+        }
+        sb.append(new String(buf, segment, stringEnd - segment, StandardCharsets.UTF_8));
+        return sb.toString();
+    }
+
+    private boolean regionEquals(int start, int regionEnd, byte[] expected) {
+        if(regionEnd - start != expected.length) return false;
+        for(int i = 0; i < expected.length; i++)
+            if(buf[start + i] != expected[i]) return false;
+        return true;
+    }
+
+    private void expectLiteral(String literal) {
+        for(int i = 0; i < literal.length(); i++) expect(literal.charAt(i));
+    }
+
+    private void expect(char c) {
+        if(peek() != c) throw malformed();
+        pos++;
+    }
+
+    private byte peek() {
+        if(pos >= end) throw malformed();
+        return buf[pos];
+    }
+
+    private void skipWhitespace() {
+        while(pos < end && isWhitespace(buf[pos])) pos++;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+
+    private static boolean isNumberPart(byte b) {
+        return (b >= '0' && b <= '9') || b == '.' || b == 'e' || b == 'E' || b == '+' || b == '-';
+    }
+
+    private static int hex(byte b) {
+        if(b >= '0' && b <= '9') return b - '0';
+        if(b >= 'a' && b <= 'f') return b - 'a' + 10;
+        if(b >= 'A' && b <= 'F') return b - 'A' + 10;
+        throw malformed();
+    }
+
+    private static MalformedJwtException malformed() {
+        return new MalformedJwtException("jwt JSON 형식이 올바르지 않습니다.");
+    }
+}
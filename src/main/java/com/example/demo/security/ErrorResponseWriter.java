@@ -0,0 +1,55 @@
+package com.example.demo.security;
+
+import com.example.demo.dto.response.Response;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * jwt 예외처리 응답
+ * SecurityError 별 Response JSON 을 시작 시 UTF-8 바이트로 만들어 두고
+ * 요청마다 직렬화 없이 Content-Length 와 함께 ServletOutputStream 에 바로 쓴다.
+ */
+@Component
+public class ErrorResponseWriter {
+
+    private static final String CONTENT_TYPE = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8";
+
+    private final byte[][] bodies = new byte[SecurityError.values().length][];
+
+    public ErrorResponseWriter(ObjectMapper objectMapper) throws JsonProcessingException {
+        for(SecurityError error : SecurityError.values()) {
+            bodies[error.ordinal()] = objectMapper.writeValueAsBytes(Response.builder()
+                    .status(error.getStatus().value())
+                    .message(error.getMessage())
+                    .build());
+        }
+    }
+
+    /**
+     * 에러 응답 쓰기
+     * @param response HttpServletResponse
+     * @param error 응답할 에러
+     * @throws IOException
+     */
+    public void write(HttpServletResponse response, SecurityError error) throws IOException {
+        byte[] body = bodies[error.ordinal()];
+        response.setStatus(error.getStatus().value());
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * 미리 만들어 둔 응답 바이트
+     * @param error 에러
+     * @return UTF-8 JSON
+     */
+    public byte[] body(SecurityError error) {
+        return bodies[error.ordinal()];
+    }
+}
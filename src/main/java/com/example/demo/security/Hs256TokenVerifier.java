@@ -0,0 +1,184 @@
+package com.example.demo.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.PrematureJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 할당을 줄인 HS256 검증 엔진
+ * header.payload 원본 바이트에 대해 kid 로 찾은 키의 스레드별 Mac 으로 서명을 검증하고,
+ * payload 에서는 사용하는 claim(sub, jti, rl, roles, exp, nbf)만 읽는다.
+ * JwtProvider.generateToken 으로 만든 토큰에 대해 JjwtTokenVerifier 와 같은 결과 / 예외를 낸다.
+ */
+public class Hs256TokenVerifier implements TokenVerifier {
+
+    static final int MAX_TOKEN_LENGTH = 8192;
+
+    private static final int[] BASE64URL = new int[128];
+    static {
+        Arrays.fill(BASE64URL, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for(int i = 0; i < alphabet.length(); i++) BASE64URL[alphabet.charAt(i)] = i;
+    }
+
+    private static final byte[][] HEADER_FIELDS = names("alg", "kid");
+    private static final int ALG = 0;
+    private static final int KID = 1;
+    private static final byte[][] ALGORITHMS = names("HS256", "none");
+    private static final int HS256 = 0;
+    private static final int NONE = 1;
+
+    private static final byte[][] CLAIM_FIELDS = names("sub", "roles", "exp", "nbf", "jti", "rl");
+    private static final int SUB = 0;
+    private static final int ROLES = 1;
+    private static final int EXP = 2;
+    private static final int NBF = 3;
+    private static final int JTI = 4;
+    private static final int RL = 5;
+
+    private final KeyRing keyRing;
+    private final ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(Buffers::new);
+
+    public Hs256TokenVerifier(KeyRing keyRing) {
+        this.keyRing = keyRing;
+    }
+
+    @Override
+    public VerifiedToken verify(String token) {
+        int length = token.length();
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = headerEnd < 0 ? -1 : token.indexOf('.', headerEnd + 1);
+        if(payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0)
+            throw new MalformedJwtException("JWT 는 정확히 2개의 '.' 을 포함해야 합니다.");
+        if(length > MAX_TOKEN_LENGTH)
+            throw new MalformedJwtException("JWT 길이가 너무 깁니다.");
+
+        Buffers buffers = this.buffers.get();
+        CompactJsonReader reader = buffers.reader;
+
+        //header
+        int algorithm = CompactJsonReader.NULL;
+        String kid = null;
+        reader.reset(buffers.json, 0, decode(token, 0, headerEnd, buffers.json));
+        if(!reader.beginObject()) throw new MalformedJwtException("JWT header 가 JSON 객체가 아닙니다.");
+        for(int field; (field = reader.nextField(HEADER_FIELDS)) != CompactJsonReader.END; ) {
+            if(field == ALG) algorithm = reader.readEnum(ALGORITHMS);
+            else if(field == KID) kid = reader.readString();
+            else reader.skipValue();
+        }
+
+        //payload
+        String subject = null;
+        String tokenId = null;
+        String roles = null;
+        boolean hasRoleMask = false;
+        long roleMask = 0;
+        long expiration = Long.MAX_VALUE;
+        long notBefore = Long.MIN_VALUE;
+        reader.reset(buffers.json, 0, decode(token, headerEnd + 1, payloadEnd, buffers.json));
+        boolean claims = reader.beginObject();
+        if(claims) {
+            for(int field; (field = reader.nextField(CLAIM_FIELDS)) != CompactJsonReader.END; ) {
+                switch(field) {
+                    case SUB: subject = reader.readString(); break;
+                    case ROLES: roles = reader.readString(); break;
+                    case EXP: expiration = reader.readLong() * 1000; break;
+                    case NBF: notBefore = reader.readLong() * 1000; break;
+                    case JTI: tokenId = reader.readString(); break;
+                    case RL: roleMask = reader.readLong(); hasRoleMask = true; break;
+                    default: reader.skipValue();
+                }
+            }
+        }
+
+        //signature
+        if(payloadEnd == length - 1)
+            throw new UnsupportedJwtException("서명되지 않은 Claims JWT 는 지원하지 않습니다.");
+        if(algorithm == CompactJsonReader.NULL || algorithm == NONE)
+            throw new MalformedJwtException("서명이 있지만 header 에 올바른 서명 알고리즘이 없습니다.");
+        if(algorithm != HS256)
+            throw new UnsupportedJwtException("HS256 이외의 서명 알고리즘은 지원하지 않습니다.");
+        SigningKey signingKey = keyRing.get(kid);
+        if(signingKey == null) throw new SignatureException("등록되지 않은 kid 입니다.");
+        verifySignature(token, payloadEnd, signingKey.mac(), buffers);
+
+        if(!claims)
+            throw new UnsupportedJwtException("서명된 plaintext JWS 는 지원하지 않습니다.");
+
+        long now = System.currentTimeMillis();
+        if(now > expiration)
+            throw new ExpiredJwtException(null, null, "만료된 JWT 입니다.");
+        if(now < notBefore)
+            throw new PrematureJwtException(null, null, "아직 사용할 수 없는 JWT 입니다.");
+
+        return new VerifiedToken(subject, tokenId, expiration, hasRoleMask ? RoleAuthorities.forMask(roleMask) : RoleAuthorities.forCsv(roles));
+    }
+
+    private void verifySignature(String token, int payloadEnd, Mac mac, Buffers buffers) {
+        int signatureLength = token.length() - payloadEnd - 1;
+        if(signatureLength > 88) throw new SignatureException("JWT 서명이 일치하지 않습니다.");
+        int decoded = decode(token, payloadEnd + 1, token.length(), buffers.signature);
+        if(decoded != 32) throw new SignatureException("JWT 서명이 일치하지 않습니다.");
+
+        byte[] signingInput = buffers.signingInput;
+        for(int i = 0; i < payloadEnd; i++) signingInput[i] = (byte) token.charAt(i);
+
+        mac.update(signingInput, 0, payloadEnd);
+        try {
+            mac.doFinal(buffers.computed, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+
+        int diff = 0;
+        for(int i = 0; i < 32; i++) diff |= buffers.computed[i] ^ buffers.signature[i];
+        if(diff != 0) throw new SignatureException("JWT 서명이 일치하지 않습니다.");
+    }
+
+    /**
+     * Base64URL 디코딩 (padding 허용)
+     * @return 디코딩된 바이트 수
+     */
+    private static int decode(String source, int from, int to, byte[] out) {
+        while(to > from && source.charAt(to - 1) == '=') to--;
+        if((to - from) % 4 == 1) throw new MalformedJwtException("Base64URL 형식이 올바르지 않습니다.");
+
+        int length = 0;
+        int buffer = 0;
+        int bits = 0;
+        for(int i = from; i < to; i++) {
+            char c = source.charAt(i);
+            int value = c < 128 ? BASE64URL[c] : -1;
+            if(value < 0) throw new MalformedJwtException("Base64URL 형식이 올바르지 않습니다.");
+            buffer = (buffer << 6) | value;
+            bits += 6;
+            if(bits >= 8) {
+                bits -= 8;
+                out[length++] = (byte) (buffer >> bits);
+                buffer &= (1 << bits) - 1;
+            }
+        }
+        return length;
+    }
+
+    private static byte[][] names(String... names) {
+        byte[][] bytes = new byte[names.length][];
+        for(int i = 0; i < names.length; i++) bytes[i] = names[i].getBytes(StandardCharsets.UTF_8);
+        return bytes;
+    }
+
+    private static class Buffers {
+        private final byte[] json = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] signingInput = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] signature = new byte[66];
+        private final byte[] computed = new byte[32];
+        private final CompactJsonReader reader = new CompactJsonReader();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.demo.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * jjwt parser 를 사용하는 기본 검증 엔진
+ * parser 는 한번만 만들고 검증 키는 header 의 kid 로 KeyRing 에서 찾는다.
+ */
+public class JjwtTokenVerifier implements TokenVerifier {
+
+    private final JwtParser jwtParser;
+
+    public JjwtTokenVerifier(KeyRing keyRing) {
+        this.jwtParser = Jwts.parserBuilder().setSigningKeyResolver(new SigningKeyResolverAdapter() {
+            @Override
+            public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                return resolve(keyRing, header);
+            }
+
+            @Override
+            public Key resolveSigningKey(JwsHeader header, String plaintext) {
+                return resolve(keyRing, header);
+            }
+        }).build();
+    }
+
+    private static Key resolve(KeyRing keyRing, JwsHeader header) {
+        SigningKey signingKey = keyRing.get(header.getKeyId());
+        if(signingKey == null) throw new SignatureException("등록되지 않은 kid 입니다.");
+        return signingKey.getKey();
+    }
+
+    @Override
+    public VerifiedToken verify(String token) {
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(claims.getSubject(), claims.getId(),
+                expiration == null ? Long.MAX_VALUE : expiration.getTime(),
+                authorities(claims));
+    }
+
+    /**
+     * rl (bitmask) claim 우선, 없으면 이전 형식 roles claim
+     */
+    private static List<GrantedAuthority> authorities(Claims claims) {
+        Object roleMask = claims.get("rl");
+        if(roleMask != null) {
+            if(!(roleMask instanceof Number)) throw new MalformedJwtException("rl claim 이 숫자가 아닙니다.");
+            return RoleAuthorities.forMask(((Number) roleMask).longValue());
+        }
+        Object roles = claims.get("roles");
+        return RoleAuthorities.forCsv(roles == null ? null : roles.toString());
+    }
+}
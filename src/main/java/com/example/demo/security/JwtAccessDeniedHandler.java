@@ -1,10 +1,7 @@
 package com.example.demo.security;
 
-import com.example.demo.dto.response.Response;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.stereotype.Component;
@@ -15,27 +12,14 @@ import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class JwtAccessDeniedHandler implements AccessDeniedHandler {
 
-    private final ObjectMapper objectMapper;
+    private final ErrorResponseWriter errorResponseWriter;
 
     @Override
     public void handle(HttpServletRequest request, HttpServletResponse response, AccessDeniedException accessDeniedException) throws IOException, ServletException {
-        sendErrorResponse(response, "권한이 없습니다.");
+        errorResponseWriter.write(response, SecurityError.ACCESS_DENIED);
     }
-
-    /**
-     * jwt 예외처리 응답
-     * @param message 예외 처리
-     */
-    private void sendErrorResponse(HttpServletResponse response, String message) throws IOException {
-        response.setCharacterEncoding("utf-8");
-        response.setStatus(HttpStatus.FORBIDDEN.value());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.getWriter().write(objectMapper.writeValueAsString(Response.builder()
-                .status(HttpStatus.FORBIDDEN.value())
-                .message(message)
-                .build()));
-    }
-}
\ No newline at end of file
+}
@@ -1,10 +1,7 @@
 package com.example.demo.security;
 
-import com.example.demo.dto.response.Response;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
@@ -15,29 +12,16 @@ import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
-    private final ObjectMapper objectMapper;
+    private final ErrorResponseWriter errorResponseWriter;
 
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authenticationException) throws IOException, ServletException
 
     {
-        sendErrorResponse(response, "인증에 실패하였습니다.");
-    }
-
-    /**
-     * jwt 예외처리 응답
-     * @param message 예외 메시지
-     */
-    private void sendErrorResponse(HttpServletResponse response, String message) throws IOException {
-        response.setCharacterEncoding("utf-8");
-        response.setStatus(HttpStatus.UNAUTHORIZED.value());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.getWriter().write(objectMapper.writeValueAsString(Response.builder()
-                .status(HttpStatus.FORBIDDEN.value())
-                .message(message)
-                .build()));
+        errorResponseWriter.write(response, SecurityError.AUTHENTICATION_FAILED);
     }
 }
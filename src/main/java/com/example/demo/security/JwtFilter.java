@@ -1,17 +1,14 @@
 package com.example.demo.security;
 
-import com.example.demo.dto.response.Response;
+import com.example.demo.exception.RevokedTokenException;
 import com.example.demo.exception.TokenNotFoundException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.demo.metrics.AuthMetrics;
+import com.example.demo.metrics.AuthMetrics.FilterOutcome;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.SignatureException;
 import lombok.RequiredArgsConstructor;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
@@ -28,40 +25,59 @@ import java.io.IOException;
 public class JwtFilter extends OncePerRequestFilter {
     public static final String AUTHORIZATION_HEADER = "AUTHORIZATION_HEADER";
 
-    private final Logger log = LoggerFactory.getLogger(JwtFilter.class);
     private final JwtProvider jwtProvider;
-    private final ObjectMapper objectMapper;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final RevokedTokenDenylist revokedTokenDenylist;
+    private final AuthMetrics authMetrics;
+    private final SecurityEventLog securityEventLog;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        System.out.println(request.getHeader(AUTHORIZATION_HEADER));
+        long startedAt = System.nanoTime();
+        String token = null;
         try {
-            String token = resolveToken(request);
-            log.info(token + "추출 완료");
+            token = resolveToken(request);
+            if(!StringUtils.hasText(token)) throw new TokenNotFoundException("토큰을 찾을 수 없습니다.");
 
-            if(!StringUtils.hasText(token)) {
-                log.info("jwt 토큰을 찾을 수 없습니다.");
-                throw new TokenNotFoundException("토큰을 찾을 수 없습니다.");
-            }
+            //로그아웃으로 폐기된 토큰 확인 (캐시 hit 된 토큰도 매번 확인)
+            VerifiedToken verifiedToken = jwtProvider.verify(token);
+            if(revokedTokenDenylist.isRevoked(verifiedToken.getTokenId(), verifiedToken.getExpiration()))
+                throw new RevokedTokenException("로그아웃된 토큰입니다.");
 
             //jwt 에서 추출된 데이터가 들어 있는 Authentication
-            Authentication authentication = jwtProvider.getAuthentication(token);
-            log.info(authentication + " Authentication 생성");
+            Authentication authentication = verifiedToken.getAuthentication();
 
             //SecurityContextHolder 에 Authentication 를 세팅하기 때문에 @PreAuthorize 로 권한 파악 가능
             SecurityContextHolder.getContext().setAuthentication(authentication);
-            filterChain.doFilter(request, response);
+            authMetrics.recordFilter(FilterOutcome.OK, startedAt);
+            securityEventLog.record(SecurityEventType.ACCESS_GRANTED, verifiedToken.getSubject(), verifiedToken.getTokenId(), null, request.getRemoteAddr());
         } catch (TokenNotFoundException e) {
-            sendErrorResponse(response, "토큰을 찾을 수 없습니다.");
+            reject(request, response, token, SecurityError.TOKEN_NOT_FOUND, FilterOutcome.TOKEN_NOT_FOUND, startedAt);
+            return;
         } catch (MalformedJwtException e) {
-            sendErrorResponse(response, "손상된 토큰입니다.");
+            reject(request, response, token, SecurityError.MALFORMED_TOKEN, FilterOutcome.MALFORMED, startedAt);
+            return;
         } catch (ExpiredJwtException e) {
-            sendErrorResponse(response, "만료된 토큰입니다.");
+            reject(request, response, token, SecurityError.EXPIRED_TOKEN, FilterOutcome.EXPIRED, startedAt);
+            return;
         } catch (UnsupportedJwtException e) {
-            sendErrorResponse(response, "지원하지 않는 토큰입니다.");
+            reject(request, response, token, SecurityError.UNSUPPORTED_TOKEN, FilterOutcome.UNSUPPORTED, startedAt);
+            return;
         } catch (SignatureException e) {
-            sendErrorResponse(response, "시그니처 검증에 실패한 토큰입니다.");
+            reject(request, response, token, SecurityError.INVALID_SIGNATURE, FilterOutcome.SIGNATURE, startedAt);
+            return;
+        } catch (RevokedTokenException e) {
+            reject(request, response, token, SecurityError.REVOKED_TOKEN, FilterOutcome.REVOKED, startedAt);
+            return;
         }
+        filterChain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, String token,
+                        SecurityError error, FilterOutcome outcome, long startedAt) throws IOException {
+        errorResponseWriter.write(response, error);
+        authMetrics.recordFilter(outcome, startedAt);
+        securityEventLog.record(SecurityEventType.of(error), null, null, token, request.getRemoteAddr());
     }
 
     /**
@@ -75,20 +91,4 @@ public class JwtFilter extends OncePerRequestFilter {
             return bearerToken.substring(7);
         return null;
     }
-
-    /**
-     * jwt 예외처리 응답
-     * @param response HttpServletResponse
-     * @param message 응답 메시지
-     * @throws IOException
-     */
-    private void sendErrorResponse(HttpServletResponse response, String message) throws IOException {
-        response.setCharacterEncoding("utf-8");
-        response.setStatus(HttpStatus.UNAUTHORIZED.value());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.getWriter().write(objectMapper.writeValueAsString(Response.builder()
-        .status(HttpStatus.UNAUTHORIZED.value())
-        .message(message)
-        .build()));
-    }
 }
@@ -1,46 +1,60 @@
 package com.example.demo.security;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import com.example.demo.metrics.AuthMetrics;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
-import java.security.Key;
-import java.util.Arrays;
-import java.util.Date;
-import java.util.List;
-import java.util.stream.Collectors;
 
 @Component
 @Getter
 public class JwtProvider {
 
-    private final String secretKey;
+    private final KeyRing keyRing;
     private final long accessTokenValidMilliSeconds;
     private final long refreshTokenValidMilliSeconds;
-    private Key key;
+    private final String verifier;
+    private final String rolesFormat;
+    private final TokenAuthenticationCache tokenAuthenticationCache;
+    private final AuthMetrics authMetrics;
+    private TokenVerifier tokenVerifier;
 
-    public JwtProvider(@Value("${JWT.secretkey}") String secretKey,
+    public JwtProvider(KeyRing keyRing,
                        @Value("${JWT.accessToken-valid-seconds}")long accessTokenValidSeconds,
-                       @Value("${JWT.refreshToken-valid-seconds}")long refreshTokenValidSeconds) {
-        this.secretKey = secretKey;
+                       @Value("${JWT.refreshToken-valid-seconds}")long refreshTokenValidSeconds,
+                       @Value("${JWT.verifier}") String verifier,
+                       @Value("${JWT.roles-format}") String rolesFormat,
+                       TokenAuthenticationCache tokenAuthenticationCache,
+                       AuthMetrics authMetrics) {
+        this.keyRing = keyRing;
         this.accessTokenValidMilliSeconds = accessTokenValidSeconds * 1000;
         this.refreshTokenValidMilliSeconds = refreshTokenValidSeconds * 1000;
+        this.verifier = verifier;
+        this.rolesFormat = rolesFormat;
+        this.tokenAuthenticationCache = tokenAuthenticationCache;
+        this.authMetrics = authMetrics;
     }
 
     /**
-     * secreyKey 암호화 초기화
+     * 검증 엔진 선택 (JWT.verifier = jjwt | hs256), 권한 claim 형식 확인 (JWT.roles-format = csv | bitmask)
      */
     @PostConstruct
     protected void init() {
-        this.key = Keys.hmacShaKeyFor(this.secretKey.getBytes());
+        if(!rolesFormat.equals("csv") && !rolesFormat.equals("bitmask"))
+            throw new IllegalArgumentException("지원하지 않는 JWT.roles-format 입니다: " + rolesFormat);
+        switch (verifier) {
+            case "jjwt":
+                this.tokenVerifier = new JjwtTokenVerifier(keyRing);
+                break;
+            case "hs256":
+                this.tokenVerifier = new Hs256TokenVerifier(keyRing);
+                break;
+            default:
+                throw new IllegalArgumentException("지원하지 않는 JWT.verifier 입니다: " + verifier);
+        }
     }
 
     /**
@@ -50,21 +64,43 @@ public class JwtProvider {
      * @return 생성된 토큰
      */
     public String generateToken(Authentication authentication, boolean isRefreshToken) {
-        String authorities = authentication.getAuthorities().stream()
-                .map(grantedAuthority -> grantedAuthority.getAuthority())
-                .collect(Collectors.joining(","));
+        long startedAt = System.nanoTime();
+        long now = System.currentTimeMillis();
+        String token = mint(authentication, now + (isRefreshToken ? refreshTokenValidMilliSeconds : accessTokenValidMilliSeconds))[0];
+        authMetrics.getTokenGeneration().recordSince(startedAt);
+        return token;
+    }
+
+    /**
+     * accessToken & refreshToken 생성 (로그인, 재발급)
+     * 발급 시각은 한번만 읽고 sub / 권한 claim 도 한번만 인코딩한다.
+     * @param authentication UserDetailsService 에서 인증 성공된 User의 값들이 담긴 객체
+     * @return 같은 시각 기준으로 발급된 토큰 쌍
+     */
+    public TokenPair generateTokenPair(Authentication authentication) {
+        long startedAt = System.nanoTime();
+        long now = System.currentTimeMillis();
+        long accessTokenExpiresAt = now + accessTokenValidMilliSeconds;
+        long refreshTokenExpiresAt = now + refreshTokenValidMilliSeconds;
+        String[] tokens = mint(authentication, accessTokenExpiresAt, refreshTokenExpiresAt);
+        authMetrics.getTokenGeneration().recordSince(startedAt);
+        return new TokenPair(tokens[0], tokens[1], now, accessTokenExpiresAt, refreshTokenExpiresAt);
+    }
 
-        long now = (new Date()).getTime();
-        Date validateDay;
-        if(isRefreshToken) validateDay = new Date(now + this.refreshTokenValidMilliSeconds);
-        else validateDay = new Date(now + this.accessTokenValidMilliSeconds);
+    private String[] mint(Authentication authentication, long... expirations) {
+        long roleMask = rolesFormat.equals("bitmask") ? RoleAuthorities.mask(authentication.getAuthorities()) : -1;
 
-        return Jwts.builder()
-                .setSubject(authentication.getName())
-                .claim("roles",authorities)
-                .signWith(key, SignatureAlgorithm.HS256)
-                .setExpiration(validateDay)
-                .compact();
+        //MemberRole 이 아닌 권한이 있으면 bitmask 로 표현할 수 없으므로 이전 형식 사용
+        String roles = null;
+        if(roleMask < 0) {
+            StringBuilder sb = new StringBuilder();
+            for(GrantedAuthority authority : authentication.getAuthorities()) {
+                if(sb.length() > 0) sb.append(',');
+                sb.append(authority.getAuthority());
+            }
+            roles = sb.toString();
+        }
+        return TokenMinter.mint(keyRing.getSigningKey(), authentication.getName(), roleMask, roles, expirations);
     }
 
     /**
@@ -73,12 +109,27 @@ public class JwtProvider {
      * @return 회원 정보 담긴 Authentication
      */
     public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return verify(token).getAuthentication();
+    }
 
-        String[] roles = claims.get("roles").toString().split(",");
-        List<SimpleGrantedAuthority> autorities = Arrays.stream(roles).map(role -> new SimpleGrantedAuthority(role)).collect(Collectors.toList());
+    /**
+     * jwt 검증 (캐시 hit 시 서명 검증 / 파싱 생략)
+     * @param token 받은 토큰
+     * @return 검증된 토큰 정보
+     */
+    public VerifiedToken verify(String token) {
+        long startedAt = System.nanoTime();
+        try {
+            long now = System.currentTimeMillis();
+            VerifiedToken verifiedToken = tokenAuthenticationCache.get(token, now);
+            if(verifiedToken != null) return verifiedToken;
 
-        return new UsernamePasswordAuthenticationToken(claims.getSubject(), "", autorities);
+            verifiedToken = tokenVerifier.verify(token);
+            tokenAuthenticationCache.put(token, verifiedToken, now);
+            return verifiedToken;
+        } finally {
+            authMetrics.getTokenVerification().recordSince(startedAt);
+        }
     }
 
 }
@@ -0,0 +1,220 @@
+package com.example.demo.security;
+
+import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * jwt 서명 / 검증 키 목록
+ * 토큰 header 의 kid 로 검증 키를 찾고 (kid 가 없는 이전 토큰은 JWT.secretkey), 서명은 한 개의 키로만 한다.
+ * 교체된 키는 그 키로 서명된 토큰이 모두 만료될 때까지 (refreshToken 유효 시간) 검증에만 사용된다.
+ * 교체 키는 저장하지 않고 HKDF-SHA256(JWT.secretkey, kid) 로 만든다.
+ * 자동 교체(JWT.key-rotation-interval-seconds)는 kid 를 교체 주기 경계 시각으로 정하므로 같은 secretkey 를 쓰는
+ * 모든 인스턴스가 같은 시각에 같은 키로 바꾸고, 재시작하거나 다른 인스턴스가 교체한 kid 도 받은 토큰의 kid 로 다시 만들어 검증한다.
+ * (주기 경계가 아니거나 overlap 보다 오래된 kid 는 만들지 않음)
+ * 설정으로 관리하는 키는 JWT.additional-keys / JWT.signing-kid 로 교체한다.
+ */
+@Component
+public class KeyRing {
+
+    public static final String DEFAULT_KID = "default";
+    //교체 키 HKDF salt (secretkey 를 다른 용도의 키와 구분)
+    private static final byte[] ROTATION_SALT = "jwt-key-rotation".getBytes(StandardCharsets.UTF_8);
+    private static final int MAX_ROTATED_KID_LENGTH = 16;
+
+    private final Logger log = LoggerFactory.getLogger(KeyRing.class);
+    private final byte[] rotationKey; // HKDF extract(secretkey)
+    private final long rotationIntervalMillis;
+    private final long overlapMillis;
+
+    //교체 시 새 map 으로 바꿔 끼우므로 조회는 lock 없이 HashMap 한번
+    private volatile Map<String, SigningKey> keys;
+    private volatile SigningKey signingKey;
+    private final Map<String, Long> retiredAt = new HashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    public KeyRing(@Value("${JWT.secretkey}") String secretKey,
+                   @Value("${JWT.additional-keys}") String additionalKeys,
+                   @Value("${JWT.signing-kid}") String signingKid,
+                   @Value("${JWT.key-rotation-interval-seconds}") long rotationIntervalSeconds,
+                   @Value("${JWT.refreshToken-valid-seconds}") long refreshTokenValidSeconds) {
+        Map<String, SigningKey> keys = new HashMap<>();
+        keys.put(DEFAULT_KID, new SigningKey(DEFAULT_KID, Keys.hmacShaKeyFor(secretKey.getBytes())));
+        if(StringUtils.hasText(additionalKeys)) {
+            for(String entry : additionalKeys.split(",")) {
+                int separator = entry.indexOf(':');
+                if(separator <= 0) throw new IllegalArgumentException("JWT.additional-keys 는 kid:secret 형식이어야 합니다.");
+                String kid = entry.substring(0, separator).trim();
+                byte[] secret = entry.substring(separator + 1).trim().getBytes(StandardCharsets.UTF_8);
+                keys.put(kid, new SigningKey(kid, Keys.hmacShaKeyFor(secret)));
+            }
+        }
+
+        this.signingKey = keys.get(signingKid);
+        if(signingKey == null) throw new IllegalArgumentException("JWT.signing-kid 에 해당하는 키가 없습니다: " + signingKid);
+        this.keys = Collections.unmodifiableMap(keys);
+        this.rotationKey = hmac(ROTATION_SALT, secretKey.getBytes(StandardCharsets.UTF_8));
+        this.rotationIntervalMillis = rotationIntervalSeconds * 1000;
+        this.overlapMillis = refreshTokenValidSeconds * 1000;
+    }
+
+    /**
+     * 자동 교체면 지금 주기의 키로 바로 서명하고 (다른 인스턴스와 같은 키) 다음 주기 경계마다 교체
+     */
+    @PostConstruct
+    protected void start() {
+        if(rotationIntervalMillis <= 0) return;
+        long now = System.currentTimeMillis();
+        long epoch = now - now % rotationIntervalMillis;
+        rotateTo(epochKid(epoch), now);
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwt-key-rotation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(() -> {
+            try {
+                //timer 가 경계보다 조금 일찍 깨어나도 다음 주기의 kid 를 쓰도록 가장 가까운 경계로 맞춤
+                long tick = System.currentTimeMillis();
+                long boundary = (tick + rotationIntervalMillis / 2) / rotationIntervalMillis * rotationIntervalMillis;
+                rotateTo(epochKid(boundary), tick);
+            } catch (RuntimeException e) {
+                log.error("jwt 키 교체 실패", e);
+            }
+        }, epoch + rotationIntervalMillis - now, rotationIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        if(scheduler != null) scheduler.shutdownNow();
+    }
+
+    /**
+     * 검증 키 조회
+     * 자동 교체 중이면 아직 없는 주기 경계 kid (재시작 전 / 다른 인스턴스가 교체한 키) 는 만들어서 등록한다.
+     * @param kid 토큰 header 의 kid (없으면 JWT.secretkey 키)
+     * @return 키, 없거나 폐기되었으면 null
+     */
+    public SigningKey get(String kid) {
+        SigningKey key = keys.get(kid == null ? DEFAULT_KID : kid);
+        if(key != null || kid == null || rotationIntervalMillis <= 0) return key;
+        return deriveEpochKey(kid);
+    }
+
+    /**
+     * 새 토큰 서명에 사용하는 키
+     */
+    public SigningKey getSigningKey() {
+        return signingKey;
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * 지금 바로 새 서명 키로 교체 (수동)
+     * kid 가 주기 경계가 아니므로 다른 인스턴스는 이 키를 만들지 않는다. (인스턴스가 하나일 때만 사용)
+     * @return 새 서명 키
+     */
+    public synchronized SigningKey rotate() {
+        long now = System.currentTimeMillis();
+        //같은 ms 에 다시 교체하면 kid 가 겹치므로 뒤에 번호를 붙임
+        String kid = "k" + Long.toString(now, 36);
+        for(int suffix = 1; keys.containsKey(kid); suffix++) kid = "k" + Long.toString(now, 36) + "-" + suffix;
+        return rotateTo(kid, now);
+    }
+
+    /**
+     * kid 의 키로 서명 키 교체
+     * 이전 서명 키는 overlap 동안 검증에만 쓰이고, overlap 이 지난 키는 제거된다.
+     * @return 새 서명 키
+     */
+    private synchronized SigningKey rotateTo(String kid, long now) {
+        if(kid.equals(signingKey.getKid())) return signingKey;
+        SigningKey rotated = keys.containsKey(kid) ? keys.get(kid) : derive(kid);
+
+        retiredAt.put(signingKey.getKid(), now);
+        retiredAt.remove(kid);
+        Map<String, SigningKey> next = new HashMap<>();
+        for(SigningKey key : keys.values()) {
+            Long retired = retiredAt.get(key.getKid());
+            if(retired != null && retired + overlapMillis <= now) retiredAt.remove(key.getKid());
+            else next.put(key.getKid(), key);
+        }
+        next.put(rotated.getKid(), rotated);
+
+        this.keys = Collections.unmodifiableMap(next);
+        this.signingKey = rotated;
+        log.info("jwt 서명 키 교체: {}", rotated.getKid());
+        return rotated;
+    }
+
+    /**
+     * 받은 토큰의 주기 경계 kid 로 키를 만들어 검증 키에 추가
+     * 주기 경계 시각이 (지금 - overlap - 주기) ~ (지금 + 주기) 안일 때만 만든다. (그 외 kid 로 키가 늘어나지 않도록)
+     * @return 키, 조건에 맞지 않으면 null
+     */
+    private synchronized SigningKey deriveEpochKey(String kid) {
+        SigningKey key = keys.get(kid);
+        if(key != null) return key;
+        if(kid.length() > MAX_ROTATED_KID_LENGTH || kid.length() < 2 || kid.charAt(0) != 'k') return null;
+
+        long epoch;
+        try {
+            epoch = Long.parseLong(kid.substring(1), 36);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        if(!kid.equals(epochKid(epoch)) || epoch % rotationIntervalMillis != 0
+                || epoch < now - overlapMillis - rotationIntervalMillis || epoch > now + rotationIntervalMillis) return null;
+
+        key = derive(kid);
+        //다음 주기에 끝나는 키로 보고 overlap 이 지나면 교체 때 제거
+        retiredAt.put(kid, epoch + rotationIntervalMillis);
+        Map<String, SigningKey> next = new HashMap<>(keys);
+        next.put(kid, key);
+        this.keys = Collections.unmodifiableMap(next);
+        return key;
+    }
+
+    private static String epochKid(long epoch) {
+        return "k" + Long.toString(epoch, 36);
+    }
+
+    /**
+     * HKDF-SHA256 expand (32 byte 한 블록): HMAC(prk, kid || 0x01)
+     */
+    private SigningKey derive(String kid) {
+        byte[] info = (kid + '\u0001').getBytes(StandardCharsets.UTF_8);
+        return new SigningKey(kid, Keys.hmacShaKeyFor(hmac(rotationKey, info)));
+    }
+
+    private static byte[] hmac(byte[] key, byte[] data) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return mac.doFinal(data);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.demo.security;
+
+import com.example.demo.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * /api/login, /api/refreshToken 요청 제한
+ * 두 endpoint 는 JwtFilter 를 거치지 않으므로 BCrypt 검증 / 토큰 재발급 전에 IP 와 아이디 기준으로 제한한다.
+ * 거절한 요청은 RATE_LIMITED 보안 이벤트로 남긴다.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final RateLimiter loginByIp;
+    private final RateLimiter loginByUsername;
+    private final RateLimiter refreshByIp;
+    private final SecurityEventLog securityEventLog;
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public LoginRateLimiter(@Value("${rate-limit.login-ip.permits-per-minute}") int loginIpPermits,
+                            @Value("${rate-limit.login-ip.burst}") int loginIpBurst,
+                            @Value("${rate-limit.login-username.permits-per-minute}") int loginUsernamePermits,
+                            @Value("${rate-limit.login-username.burst}") int loginUsernameBurst,
+                            @Value("${rate-limit.refresh-ip.permits-per-minute}") int refreshIpPermits,
+                            @Value("${rate-limit.refresh-ip.burst}") int refreshIpBurst,
+                            @Value("${rate-limit.max-keys}") int maxKeys,
+                            SecurityEventLog securityEventLog) {
+        this.loginByIp = new RateLimiter(loginIpPermits, loginIpBurst, maxKeys);
+        this.loginByUsername = new RateLimiter(loginUsernamePermits, loginUsernameBurst, maxKeys);
+        this.refreshByIp = new RateLimiter(refreshIpPermits, refreshIpBurst, maxKeys);
+        this.securityEventLog = securityEventLog;
+    }
+
+    /**
+     * 로그인 요청 제한 확인
+     * @param clientIp 요청 IP
+     * @param username 로그인 아이디 (앞뒤 공백 / 대소문자만 다른 아이디는 같은 key)
+     * @throws TooManyRequestsException 제한을 넘은 경우
+     */
+    public void checkLogin(String clientIp, String username) {
+        check(loginByIp, clientIp, username, clientIp);
+        if(username != null) check(loginByUsername, username.trim().toLowerCase(Locale.ROOT), username, clientIp);
+    }
+
+    /**
+     * accessToken 재발급 요청 제한 확인
+     * @param clientIp 요청 IP
+     * @throws TooManyRequestsException 제한을 넘은 경우
+     */
+    public void checkRefresh(String clientIp) {
+        check(refreshByIp, clientIp, null, clientIp);
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public int size() {
+        return loginByIp.size() + loginByUsername.size() + refreshByIp.size();
+    }
+
+    private void check(RateLimiter rateLimiter, String key, String username, String clientIp) {
+        long wait = rateLimiter.tryAcquire(key == null ? "" : key);
+        if(wait == 0) return;
+        rejectedCount.increment();
+        securityEventLog.record(SecurityEventType.RATE_LIMITED, username, null, null, clientIp);
+        throw new TooManyRequestsException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.",
+                Math.max(1, (wait + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1)));
+    }
+}
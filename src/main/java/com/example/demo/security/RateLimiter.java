@@ -0,0 +1,115 @@
+package com.example.demo.security;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * key 별 token bucket (GCRA)
+ * key 마다 다음 요청이 허용되는 이론 시각(TAT) 하나만 AtomicLong 에 두고 CAS 로 갱신하므로 lock 이 없고
+ * 서로 다른 key 는 ConcurrentHashMap 의 bin 단위로 나뉘어 경합하지 않는다.
+ * TAT 가 현재 시각보다 이전인 key 는 bucket 이 가득 찬 상태라 지워도 동작이 같으므로 분마다 한번 정리하고,
+ * 그 사이 key 수가 상한에 닿으면 들어온 순서 (insertionOrder) 로 가장 오래된 key 하나를 제거한다.
+ */
+public class RateLimiter {
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<String, AtomicLong> states = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Bucket> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicLong lastSweep;
+
+    /**
+     * @param permitsPerMinute 분당 허용 횟수 (0 이하면 제한 안함)
+     * @param burst 한번에 허용하는 최대 횟수
+     * @param maxKeys 최대 key 수
+     */
+    public RateLimiter(int permitsPerMinute, int burst, int maxKeys) {
+        this(permitsPerMinute, burst, maxKeys, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock 현재 시각 (System.nanoTime, 테스트에서 교체)
+     */
+    RateLimiter(int permitsPerMinute, int burst, int maxKeys, LongSupplier nanoClock) {
+        this.emissionIntervalNanos = permitsPerMinute > 0 ? TimeUnit.MINUTES.toNanos(1) / permitsPerMinute : 0;
+        this.toleranceNanos = emissionIntervalNanos * Math.max(1, burst);
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+        this.lastSweep = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * 요청 허용 여부 확인
+     * @param key 제한 기준 (IP, 아이디)
+     * @return 허용이면 0, 거절이면 다시 시도할 수 있을 때까지 남은 시간 (nanoseconds)
+     */
+    public long tryAcquire(String key) {
+        if(emissionIntervalNanos == 0) return 0;
+        long now = nanoClock.getAsLong();
+
+        sweep(now);
+        AtomicLong state = states.get(key);
+        if(state == null) {
+            //상한에 닿으면 새 key 를 거절하지 않고 가장 먼저 들어온 key 를 제거 (메모리 상한 유지)
+            if(states.size() >= maxKeys) evictOldest();
+            Bucket created = new Bucket(key, now);
+            state = states.putIfAbsent(key, created);
+            if(state == null) {
+                state = created;
+                insertionOrder.add(created);
+            }
+        }
+
+        while(true) {
+            long current = state.get();
+            long next = (current - now > 0 ? current : now) + emissionIntervalNanos;
+            long wait = next - now - toleranceNanos;
+            if(wait > 0) return wait;
+            if(state.compareAndSet(current, next)) return 0;
+        }
+    }
+
+    public int size() {
+        return states.size();
+    }
+
+    /**
+     * bucket 이 다시 가득 찬 key 제거 (분마다 한번)
+     */
+    private void sweep(long now) {
+        long last = lastSweep.get();
+        if(now - last <= SWEEP_INTERVAL_NANOS || !lastSweep.compareAndSet(last, now)) return;
+        states.values().removeIf(state -> state.get() - now <= 0);
+        insertionOrder.removeIf(bucket -> states.get(bucket.key) != bucket);
+    }
+
+    /**
+     * 가장 먼저 들어온 key 제거
+     * 이미 지워진 bucket 은 건너뛰고, 각 bucket 은 한번만 꺼내므로 key 수와 관계없이 평균 O(1) 이다.
+     */
+    private void evictOldest() {
+        Bucket bucket;
+        while((bucket = insertionOrder.poll()) != null) {
+            if(states.remove(bucket.key, bucket)) return;
+        }
+    }
+
+    /**
+     * TAT 와 key (insertionOrder 에서 map 의 entry 를 찾기 위함)
+     */
+    private static class Bucket extends AtomicLong {
+        private final String key;
+
+        private Bucket(String key, long tat) {
+            super(tat);
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.demo.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 폐기된 accessToken(jti) 목록
+ * 토큰 만료 시간 기준으로 구간(bucket)을 나누고 구간마다 Bloom filter 와 정확한 jti 집합을 둔다.
+ * 조회는 Bloom filter 비트 확인(할당 없음, 폐기 건수와 무관한 상수 시간)이고
+ * 양성일 때만 jti 집합으로 확인한다. 만료 시간이 지난 구간은 다음 구간에 재사용되므로
+ * 메모리는 accessToken 유효 시간 만큼의 구간 수로 제한된다.
+ */
+@Component
+public class RevokedTokenDenylist {
+
+    private static final int HASH_FUNCTIONS = 4;
+
+    private final long bucketMilliSeconds;
+    private final int bucketCount;
+    private final int bitsPerBucket;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    //설정된 유효 시간보다 늦게 만료되는 토큰 (설정 변경 전 발급된 토큰 등)
+    private final ConcurrentHashMap<String, Long> overflow = new ConcurrentHashMap<>();
+    private volatile boolean overflowUsed;
+
+    private final LongAdder revokedCount = new LongAdder();
+    private final LongAdder falsePositiveCount = new LongAdder();
+
+    public RevokedTokenDenylist(@Value("${JWT.accessToken-valid-seconds}") long accessTokenValidSeconds,
+                                @Value("${JWT.revocation-bucket-seconds}") long bucketSeconds,
+                                @Value("${JWT.revocation-expected-per-bucket}") int expectedPerBucket) {
+        this.bucketMilliSeconds = bucketSeconds * 1000;
+        this.bucketCount = (int) ((accessTokenValidSeconds + bucketSeconds - 1) / bucketSeconds) + 2;
+        //false positive 1% 기준 원소당 약 9.6 bit, mask 로 자를 수 있게 2의 거듭제곱으로 맞춤
+        long bits = Math.max(64, (long) Math.ceil(expectedPerBucket * 9.6));
+        this.bitsPerBucket = (int) Math.min(1L << 30, Long.highestOneBit(bits - 1) << 1);
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+    }
+
+    /**
+     * accessToken 폐기 (같은 jti 를 다시 폐기해도 한번만 센다, 저장소 알림으로 다시 들어오는 경우)
+     * @param tokenId jti
+     * @param expiration 토큰 만료 시간 (epoch millis)
+     */
+    public void revoke(String tokenId, long expiration) {
+        long now = System.currentTimeMillis();
+        if(tokenId == null || expiration <= now) return;
+
+        long epoch = expiration / bucketMilliSeconds;
+        if(epoch - now / bucketMilliSeconds >= bucketCount - 1) {
+            overflow.entrySet().removeIf(entry -> entry.getValue() <= now);
+            if(overflow.put(tokenId, expiration) == null) revokedCount.increment();
+            overflowUsed = true;
+            return;
+        }
+
+        int slot = (int) (epoch % bucketCount);
+        Bucket bucket = buckets.get(slot);
+        while(bucket == null || bucket.epoch < epoch) {
+            Bucket fresh = new Bucket(epoch, bitsPerBucket);
+            if(buckets.compareAndSet(slot, bucket, fresh)) {
+                bucket = fresh;
+                break;
+            }
+            bucket = buckets.get(slot);
+        }
+        if(bucket.add(tokenId)) revokedCount.increment();
+    }
+
+    /**
+     * 폐기 여부 확인
+     * @param tokenId jti (없으면 폐기 대상이 아님)
+     * @param expiration 토큰 만료 시간 (epoch millis)
+     * @return 폐기된 토큰이면 true
+     */
+    public boolean isRevoked(String tokenId, long expiration) {
+        if(tokenId == null) return false;
+
+        long epoch = expiration / bucketMilliSeconds;
+        Bucket bucket = buckets.get((int) (epoch % bucketCount));
+        if(bucket != null && bucket.epoch == epoch && bucket.mightContain(tokenId)) {
+            if(bucket.tokenIds.contains(tokenId)) return true;
+            falsePositiveCount.increment();
+        }
+        return overflowUsed && overflow.containsKey(tokenId);
+    }
+
+    public long getRevokedCount() {
+        return revokedCount.sum();
+    }
+
+    public long getFalsePositiveCount() {
+        return falsePositiveCount.sum();
+    }
+
+    /**
+     * 같은 만료 구간에 속한 폐기 토큰
+     */
+    private static class Bucket {
+        private final long epoch;
+        private final int mask;
+        private final AtomicLongArray bits;
+        private final Set<String> tokenIds = ConcurrentHashMap.newKeySet();
+
+        private Bucket(long epoch, int bitCount) {
+            this.epoch = epoch;
+            this.mask = bitCount - 1;
+            this.bits = new AtomicLongArray(bitCount >>> 6);
+        }
+
+        private boolean add(String tokenId) {
+            if(!tokenIds.add(tokenId)) return false;
+            long hash = hash(tokenId);
+            long step = step(hash);
+            for(int i = 0; i < HASH_FUNCTIONS; i++) {
+                int bit = (int) ((hash + i * step) & mask);
+                long word;
+                long flag = 1L << bit;
+                while(((word = bits.get(bit >>> 6)) & flag) == 0 && !bits.compareAndSet(bit >>> 6, word, word | flag)) {
+                    //다른 스레드가 같은 word 를 먼저 바꾸면 다시 시도
+                }
+            }
+            return true;
+        }
+
+        private boolean mightContain(String tokenId) {
+            long hash = hash(tokenId);
+            long step = step(hash);
+            for(int i = 0; i < HASH_FUNCTIONS; i++) {
+                int bit = (int) ((hash + i * step) & mask);
+                if((bits.get(bit >>> 6) & (1L << bit)) == 0) return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * FNV-1a 64bit (문자열 할당 없이 char 단위로 계산)
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for(int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long step(long hash) {
+        return Long.rotateLeft(hash * 0x9E3779B97F4A7C15L, 31) | 1;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.demo.security;
+
+import com.example.demo.domain.MemberRole;
+import io.jsonwebtoken.MalformedJwtException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MemberRole 조합별 권한 목록
+ * 토큰의 rl claim 은 MemberRole ordinal 을 bit 위치로 쓴 값이므로 MemberRole 은 뒤에만 추가해야 한다.
+ * 조합마다 변경할 수 없는 권한 목록을 미리 만들어 두고 모든 검증 결과가 공유한다.
+ */
+final class RoleAuthorities {
+
+    private static final MemberRole[] ROLES = MemberRole.values();
+    private static final String[] NAMES = new String[ROLES.length];
+    private static final List<GrantedAuthority>[] BY_MASK;
+    private static final Map<String, Integer> BIT_BY_AUTHORITY = new HashMap<>();
+
+    static {
+        for(MemberRole role : ROLES) {
+            NAMES[role.ordinal()] = "ROLE_" + role.name();
+            BIT_BY_AUTHORITY.put(NAMES[role.ordinal()], role.ordinal());
+        }
+
+        @SuppressWarnings("unchecked")
+        List<GrantedAuthority>[] byMask = new List[1 << ROLES.length];
+        for(int mask = 0; mask < byMask.length; mask++) {
+            List<GrantedAuthority> authorities = new ArrayList<>();
+            for(MemberRole role : ROLES)
+                if((mask & (1 << role.ordinal())) != 0) authorities.add(new SimpleGrantedAuthority("ROLE_" + role.name()));
+            byMask[mask] = Collections.unmodifiableList(authorities);
+        }
+        BY_MASK = byMask;
+    }
+
+    private RoleAuthorities() {
+    }
+
+    /**
+     * 권한 목록을 bitmask 로 변환
+     * @param authorities 인증된 사용자 권한
+     * @return bitmask, MemberRole 이 아닌 권한이 있으면 -1
+     */
+    static long mask(Collection<? extends GrantedAuthority> authorities) {
+        long mask = 0;
+        for(GrantedAuthority authority : authorities) {
+            Integer bit = BIT_BY_AUTHORITY.get(authority.getAuthority());
+            if(bit == null) return -1;
+            mask |= 1L << bit;
+        }
+        return mask;
+    }
+
+    /**
+     * rl claim 을 권한 목록으로 변환
+     * @param mask rl claim 값
+     * @return 공유되는 변경 불가능한 권한 목록
+     */
+    static List<GrantedAuthority> forMask(long mask) {
+        if(mask < 0 || mask >= BY_MASK.length) throw new MalformedJwtException("알 수 없는 권한이 포함된 토큰입니다.");
+        return BY_MASK[(int) mask];
+    }
+
+    /**
+     * roles claim (이전 형식, "," 로 구분된 권한 문자열) 을 권한 목록으로 변환
+     * 모두 MemberRole 권한이면 공유 목록을, 아니면 새 목록을 돌려준다. (둘 다 변경 불가능)
+     * @param roles "," 로 구분된 권한 문자열
+     * @return 권한 목록
+     */
+    static List<GrantedAuthority> forCsv(String roles) {
+        if(roles == null || roles.isBlank()) return Collections.emptyList();
+
+        long mask = 0;
+        for(int start = 0; start <= roles.length(); ) {
+            int end = roles.indexOf(',', start);
+            if(end < 0) end = roles.length();
+            int bit = bit(roles, start, end);
+            if(bit < 0) return split(roles);
+            mask |= 1L << bit;
+            start = end + 1;
+        }
+        return BY_MASK[(int) mask];
+    }
+
+    /**
+     * roles[start, end) 와 같은 MemberRole 권한의 bit 위치 (substring 할당 없이 비교)
+     */
+    private static int bit(String roles, int start, int end) {
+        for(int i = 0; i < NAMES.length; i++)
+            if(NAMES[i].length() == end - start && roles.regionMatches(start, NAMES[i], 0, end - start)) return i;
+        return -1;
+    }
+
+    private static List<GrantedAuthority> split(String roles) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        for(String role : roles.split(",")) authorities.add(new SimpleGrantedAuthority(role));
+        return Collections.unmodifiableList(authorities);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.demo.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 보안 필터 / 핸들러의 고정 에러 응답
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SecurityError {
+    TOKEN_NOT_FOUND(HttpStatus.UNAUTHORIZED, "토큰을 찾을 수 없습니다."),
+    MALFORMED_TOKEN(HttpStatus.UNAUTHORIZED, "손상된 토큰입니다."),
+    EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "만료된 토큰입니다."),
+    UNSUPPORTED_TOKEN(HttpStatus.UNAUTHORIZED, "지원하지 않는 토큰입니다."),
+    INVALID_SIGNATURE(HttpStatus.UNAUTHORIZED, "시그니처 검증에 실패한 토큰입니다."),
+    REVOKED_TOKEN(HttpStatus.UNAUTHORIZED, "로그아웃된 토큰입니다."),
+    AUTHENTICATION_FAILED(HttpStatus.UNAUTHORIZED, "인증에 실패하였습니다."),
+    ACCESS_DENIED(HttpStatus.FORBIDDEN, "권한이 없습니다.");
+
+    private final HttpStatus status;
+    private final String message;
+}
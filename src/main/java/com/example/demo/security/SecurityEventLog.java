@@ -0,0 +1,236 @@
+package com.example.demo.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.net.InetSocketAddress;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 보안 이벤트 로그 (인증 성공 / 실패, 로그인, refreshToken 재발급, 로그아웃)
+ * 요청 스레드는 미리 만들어 둔 ring buffer 칸에 이벤트 종류와 이미 있는 문자열 참조만 넣고 (문자열 조립 없음)
+ * 백그라운드 스레드 하나가 buffer 를 비우면서 로그를 쓴다.
+ * 종류별 기록 비율 (security-event.sample-rates) 에서 빠진 이벤트는 buffer 에 넣지 않고,
+ * buffer 가 가득 차면 기다리지 않고 버리고 dropped 를 센다.
+ * 토큰 원본은 로그에 남기지 않고 SHA-256 앞 12 자리로만 남긴다.
+ */
+@Component
+public class SecurityEventLog {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int FINGERPRINT_BYTES = 6;
+
+    private final Logger log = LoggerFactory.getLogger(SecurityEventLog.class);
+    private final Slot[] slots;
+    private final int mask;
+    private final double[] sampleRates;
+    private final long drainIntervalNanos;
+
+    //다음에 쓸 칸 (생산자) / 다음에 읽을 칸 (소비자, 이 값보다 capacity 이상 앞서면 가득 참)
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long consumed;
+
+    private final LongAdder droppedCount = new LongAdder();
+    private volatile long loggedCount;
+    private volatile boolean running;
+    private Thread consumer;
+
+    public SecurityEventLog(@Value("${security-event.buffer-size}") int bufferSize,
+                            @Value("${security-event.drain-interval-millis}") long drainIntervalMillis,
+                            @Value("${security-event.sample-rates}") String sampleRates) {
+        int capacity = Integer.highestOneBit(Math.max(2, bufferSize - 1)) << 1;
+        this.slots = new Slot[capacity];
+        for(int i = 0; i < capacity; i++) slots[i] = new Slot();
+        this.mask = capacity - 1;
+        this.sampleRates = parseSampleRates(sampleRates);
+        this.drainIntervalNanos = TimeUnit.MILLISECONDS.toNanos(drainIntervalMillis);
+    }
+
+    @PostConstruct
+    protected void start() {
+        running = true;
+        consumer = new Thread(this::drainLoop, "security-event-log");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @PreDestroy
+    protected void shutdown() throws InterruptedException {
+        running = false;
+        if(consumer == null) return;
+        LockSupport.unpark(consumer);
+        consumer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * 이벤트 기록 (요청 스레드, 막히지 않음)
+     * @param type 이벤트 종류
+     * @param subject 아이디 (없으면 null)
+     * @param tokenId 토큰 jti (없으면 null)
+     * @param token 토큰 원본 (로그에는 fingerprint 만 남음, 없으면 null)
+     * @param clientIp 요청 IP (없으면 null)
+     */
+    public void record(SecurityEventType type, String subject, String tokenId, String token, String clientIp) {
+        publish(type, subject, tokenId, token, clientIp, null);
+    }
+
+    /**
+     * 이벤트 기록 (요청 스레드, 막히지 않음)
+     * @param clientAddress 요청 주소 (문자열 변환은 소비자 스레드에서, 없으면 null)
+     * @see #record(SecurityEventType, String, String, String, String)
+     */
+    public void record(SecurityEventType type, String subject, String tokenId, String token, InetSocketAddress clientAddress) {
+        publish(type, subject, tokenId, token, null, clientAddress);
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getLoggedCount() {
+        return loggedCount;
+    }
+
+    private void publish(SecurityEventType type, String subject, String tokenId, String token,
+                         String clientIp, InetSocketAddress clientAddress) {
+        double sampleRate = sampleRates[type.ordinal()];
+        if(sampleRate < 1 && (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate)) return;
+
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if(sequence - consumed >= slots.length) {
+                droppedCount.increment();
+                return;
+            }
+        } while(!claimed.compareAndSet(sequence, sequence + 1));
+
+        Slot slot = slots[(int) (sequence & mask)];
+        slot.type = type;
+        slot.timestamp = System.currentTimeMillis();
+        slot.subject = subject;
+        slot.tokenId = tokenId;
+        slot.token = token;
+        slot.clientIp = clientIp;
+        slot.clientAddress = clientAddress;
+        //volatile 쓰기로 위 필드를 소비자에게 공개
+        slot.sequence = sequence;
+    }
+
+    private void drainLoop() {
+        while(running) {
+            try {
+                if(drain() == 0) LockSupport.parkNanos(drainIntervalNanos);
+            } catch (RuntimeException e) {
+                //로그 출력 실패로 소비자 스레드가 멈추지 않도록
+                log.error("보안 이벤트 로그 기록 실패", e);
+            }
+        }
+        drain();
+    }
+
+    /**
+     * 공개된 이벤트를 순서대로 로그에 쓰고 칸을 비움 (소비자 스레드만 호출)
+     * 쓰기에 실패한 이벤트는 버리고 dropped 로 세며, 칸은 항상 넘겨서 같은 이벤트에서 멈추지 않는다.
+     * @return 처리한 칸 수
+     */
+    private int drain() {
+        int count = 0;
+        int logged = 0;
+        long next = consumed;
+        for(Slot slot = slots[(int) (next & mask)]; slot.sequence == next; slot = slots[(int) (next & mask)]) {
+            try {
+                write(slot);
+                logged++;
+            } catch (RuntimeException e) {
+                droppedCount.increment();
+                log.error("보안 이벤트 로그 기록 실패", e);
+            } finally {
+                slot.clear();
+                consumed = ++next;
+                count++;
+            }
+        }
+        if(logged > 0) loggedCount += logged;
+        return count;
+    }
+
+    private void write(Slot slot) {
+        String format = "security_event type={} subject={} jti={} token={} ip={} at={}";
+        Object[] arguments = {slot.type, slot.subject, slot.tokenId, fingerprint(slot.token), clientIp(slot),
+                Instant.ofEpochMilli(slot.timestamp)};
+        if(slot.type.isFailure()) log.warn(format, arguments);
+        else log.info(format, arguments);
+    }
+
+    private static String clientIp(Slot slot) {
+        InetSocketAddress address = slot.clientAddress;
+        if(address == null) return slot.clientIp;
+        return address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString();
+    }
+
+    /**
+     * 토큰 대신 남기는 값 (같은 토큰끼리 연결은 되지만 원본은 알 수 없음)
+     */
+    private static String fingerprint(String token) {
+        if(token == null) return null;
+        byte[] digest = TokenDigest.sha256(token);
+        char[] chars = new char[FINGERPRINT_BYTES * 2];
+        for(int i = 0; i < FINGERPRINT_BYTES; i++) {
+            chars[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[digest[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * "ACCESS_GRANTED:0.01,LOGIN_SUCCESS:1" 형식의 종류별 기록 비율 (없는 종류는 1)
+     */
+    private static double[] parseSampleRates(String value) {
+        double[] rates = new double[SecurityEventType.values().length];
+        Arrays.fill(rates, 1);
+        if(!StringUtils.hasText(value)) return rates;
+        for(String entry : value.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if(pair.length != 2) throw new IllegalArgumentException("security-event.sample-rates 형식이 올바르지 않습니다: " + value);
+            double rate = Double.parseDouble(pair[1].trim());
+            if(rate < 0 || rate > 1) throw new IllegalArgumentException("기록 비율은 0 ~ 1 사이여야 합니다: " + entry);
+            rates[SecurityEventType.valueOf(pair[0].trim()).ordinal()] = rate;
+        }
+        return rates;
+    }
+
+    /**
+     * ring buffer 한 칸 (sequence 가 공개 표시, 나머지 필드는 sequence 쓰기 전에 채움)
+     */
+    private static class Slot {
+        private volatile long sequence = -1;
+        private SecurityEventType type;
+        private long timestamp;
+        private String subject;
+        private String tokenId;
+        private String token;
+        private String clientIp;
+        private InetSocketAddress clientAddress;
+
+        //버린 칸이 토큰 / 아이디 참조를 붙잡고 있지 않도록
+        private void clear() {
+            subject = null;
+            tokenId = null;
+            token = null;
+            clientIp = null;
+            clientAddress = null;
+        }
+    }
+}
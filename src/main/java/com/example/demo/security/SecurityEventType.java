@@ -0,0 +1,43 @@
+package com.example.demo.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 보안 이벤트 종류 (SecurityEventLog)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SecurityEventType {
+    ACCESS_GRANTED(false),
+    TOKEN_NOT_FOUND(true),
+    MALFORMED_TOKEN(true),
+    EXPIRED_TOKEN(true),
+    UNSUPPORTED_TOKEN(true),
+    INVALID_SIGNATURE(true),
+    REVOKED_TOKEN(true),
+    LOGIN_SUCCESS(false),
+    LOGIN_FAILURE(true),
+    REFRESH_SUCCESS(false),
+    REFRESH_REJECTED(true),
+    LOGOUT(false),
+    RATE_LIMITED(true);
+
+    //실패 이벤트는 WARN, 나머지는 INFO 로 기록
+    private final boolean failure;
+
+    /**
+     * 필터 에러 응답에 해당하는 이벤트
+     */
+    public static SecurityEventType of(SecurityError error) {
+        switch (error) {
+            case TOKEN_NOT_FOUND: return TOKEN_NOT_FOUND;
+            case MALFORMED_TOKEN: return MALFORMED_TOKEN;
+            case EXPIRED_TOKEN: return EXPIRED_TOKEN;
+            case UNSUPPORTED_TOKEN: return UNSUPPORTED_TOKEN;
+            case INVALID_SIGNATURE: return INVALID_SIGNATURE;
+            case REVOKED_TOKEN: return REVOKED_TOKEN;
+            default: throw new IllegalArgumentException("필터 에러가 아닙니다: " + error);
+        }
+    }
+}
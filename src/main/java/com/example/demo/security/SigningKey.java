@@ -0,0 +1,52 @@
+package com.example.demo.security;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import javax.crypto.Mac;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+
+/**
+ * KeyRing 에 등록된 HMAC 키
+ * 키마다 스레드별 Mac 을 미리 초기화해 두고 서명 / 검증 시 재사용한다.
+ * 토큰 생성용 header 도 키마다 한번만 인코딩해 둔다.
+ */
+@Getter
+public class SigningKey {
+
+    private final String kid;
+    private final Key key;
+    private final ThreadLocal<Mac> mac;
+    @Getter(AccessLevel.NONE)
+    private final byte[] encodedHeader; // Base64URL({"kid":..,"alg":"HS256"})
+
+    public SigningKey(String kid, Key key) {
+        this.kid = kid;
+        this.key = key;
+        this.encodedHeader = TokenMinter.encodeHeader(kid);
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 Mac 을 초기화할 수 없습니다.", e);
+            }
+        });
+    }
+
+    /**
+     * 현재 스레드의 Mac (init 완료 상태)
+     */
+    Mac mac() {
+        return mac.get();
+    }
+
+    /**
+     * 토큰 생성용 header (Base64URL, 변경하면 안됨)
+     */
+    byte[] encodedHeader() {
+        return encodedHeader;
+    }
+}
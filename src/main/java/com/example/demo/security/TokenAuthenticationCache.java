@@ -0,0 +1,109 @@
+package com.example.demo.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검증된 jwt 캐시
+ * 같은 accessToken 이 유효시간 동안 반복해서 들어올 때 서명 검증 / claims 파싱 / 권한 객체 생성을 건너뛴다.
+ * key 는 토큰 원문이 아닌 SHA-256 digest, 항목은 토큰의 exp 보다 늦게 살아있지 않는다.
+ * 가득 차면 만료 시각이 이른 항목부터 지운다. (BoundedExpiryMap)
+ */
+@Component
+public class TokenAuthenticationCache {
+
+    private final boolean enabled;
+    private final long ttlMilliSeconds;
+
+    private final BoundedExpiryMap<ByteBuffer, Entry> entries;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public TokenAuthenticationCache(@Value("${JWT.cache-enabled}") boolean enabled,
+                                    @Value("${JWT.cache-max-size}") int maxSize,
+                                    @Value("${JWT.cache-ttl-seconds}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.ttlMilliSeconds = ttlSeconds * 1000;
+        this.entries = new BoundedExpiryMap<>(maxSize, entry -> entry.expiresAt);
+    }
+
+    /**
+     * 캐시 조회
+     * @param token 받은 토큰
+     * @param now 현재 시간 (epoch millis)
+     * @return 검증된 토큰 정보, 없거나 만료되었으면 null
+     */
+    public VerifiedToken get(String token, long now) {
+        if(!enabled) return null;
+
+        ByteBuffer key = digest(token);
+        Entry entry = entries.get(key);
+        if(entry == null) {
+            missCount.increment();
+            return null;
+        }
+        if(entry.expiresAt <= now) {
+            entries.expire(key, entry);
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return entry.verifiedToken;
+    }
+
+    /**
+     * 캐시 저장
+     * @param token 받은 토큰
+     * @param verifiedToken 검증된 토큰 정보
+     * @param now 현재 시간 (epoch millis)
+     */
+    public void put(String token, VerifiedToken verifiedToken, long now) {
+        if(!enabled) return;
+
+        long expiresAt = Math.min(verifiedToken.getExpiration(), now + ttlMilliSeconds);
+        if(expiresAt <= now) return;
+
+        //가득 차 있고 다른 스레드가 정리 중이면 캐시하지 않음
+        entries.tryPut(digest(token), new Entry(verifiedToken, expiresAt), now);
+    }
+
+    /**
+     * 전체 비우기 (키 변경, 로그아웃 등)
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return entries.getEvictionCount();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private ByteBuffer digest(String token) {
+        return ByteBuffer.wrap(TokenDigest.sha256(token));
+    }
+
+    private static class Entry {
+        private final VerifiedToken verifiedToken;
+        private final long expiresAt;
+
+        private Entry(VerifiedToken verifiedToken, long expiresAt) {
+            this.verifiedToken = verifiedToken;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
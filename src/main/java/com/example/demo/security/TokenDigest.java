@@ -0,0 +1,43 @@
+package com.example.demo.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 토큰 SHA-256 digest
+ * refreshToken 은 원본 대신 32 byte digest 로 저장 / 비교한다.
+ */
+public final class TokenDigest {
+
+    public static final int LENGTH = 32;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private TokenDigest() {
+    }
+
+    /**
+     * @param token 토큰 원본
+     * @return SHA-256 digest (32 byte), token 이 null 이면 null
+     */
+    public static byte[] sha256(String token) {
+        if(token == null) return null;
+        return SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 상수 시간 비교 (일치하는 앞부분 길이가 응답 시간으로 드러나지 않음)
+     * @return 둘 다 null 이 아니고 같으면 true
+     */
+    public static boolean matches(byte[] expected, byte[] actual) {
+        if(expected == null || actual == null) return false;
+        return MessageDigest.isEqual(expected, actual);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.demo.security;
+
+import com.example.demo.dto.response.IntrospectionResponse;
+import com.example.demo.exception.BatchTooLargeException;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.DecodingException;
+import io.jsonwebtoken.security.SignatureException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * 여러 accessToken 을 한번에 검증 (하위 서비스용)
+ * JwtFilter 와 같은 경로 (JwtProvider.verify → 폐기 확인) 로 검증하고
+ * 일정 크기 이상의 batch 는 전용 ForkJoinPool 에서 나눠서 검증한다.
+ */
+@Component
+public class TokenIntrospector {
+
+    //이보다 작은 batch 는 요청 스레드에서 바로 검증
+    private static final int PARALLEL_THRESHOLD = 32;
+
+    private final JwtProvider jwtProvider;
+    private final RevokedTokenDenylist revokedTokenDenylist;
+    private final int maxBatchSize;
+    private final ForkJoinPool pool;
+
+    public TokenIntrospector(JwtProvider jwtProvider,
+                             RevokedTokenDenylist revokedTokenDenylist,
+                             @Value("${JWT.introspect-max-batch}") int maxBatchSize,
+                             @Value("${JWT.introspect-parallelism}") int parallelism) {
+        this.jwtProvider = jwtProvider;
+        this.revokedTokenDenylist = revokedTokenDenylist;
+        this.maxBatchSize = maxBatchSize;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        pool.shutdown();
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * 토큰 목록 검증
+     * @param tokens accessToken 목록
+     * @return 요청 순서와 같은 순서의 검증 결과
+     */
+    public List<IntrospectionResponse> introspect(List<String> tokens) {
+        if(tokens.size() > maxBatchSize)
+            throw new BatchTooLargeException("한번에 검증할 수 있는 토큰은 " + maxBatchSize + "개 까지입니다.");
+
+        IntrospectionResponse[] results = new IntrospectionResponse[tokens.size()];
+        if(tokens.size() < PARALLEL_THRESHOLD) {
+            for(int i = 0; i < results.length; i++) results[i] = introspect(tokens.get(i));
+        } else {
+            pool.submit(() -> IntStream.range(0, results.length).parallel()
+                    .forEach(i -> results[i] = introspect(tokens.get(i)))).join();
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 토큰 한 개 검증
+     * @param token accessToken
+     * @return 검증 결과 (실패 시 active=false 와 실패 사유)
+     */
+    public IntrospectionResponse introspect(String token) {
+        if(!StringUtils.hasText(token)) return inactive(SecurityError.TOKEN_NOT_FOUND);
+        try {
+            VerifiedToken verifiedToken = jwtProvider.verify(token);
+            if(revokedTokenDenylist.isRevoked(verifiedToken.getTokenId(), verifiedToken.getExpiration()))
+                return inactive(SecurityError.REVOKED_TOKEN);
+
+            List<String> roles = new ArrayList<>(verifiedToken.getAuthentication().getAuthorities().size());
+            for(GrantedAuthority authority : verifiedToken.getAuthentication().getAuthorities())
+                roles.add(authority.getAuthority());
+            return IntrospectionResponse.builder()
+                    .active(true)
+                    .sub(verifiedToken.getSubject())
+                    .roles(roles)
+                    .exp(verifiedToken.getExpiration() == Long.MAX_VALUE ? null : verifiedToken.getExpiration() / 1000)
+                    .build();
+        } catch (MalformedJwtException | DecodingException | IllegalArgumentException e) {
+            return inactive(SecurityError.MALFORMED_TOKEN);
+        } catch (ExpiredJwtException e) {
+            return inactive(SecurityError.EXPIRED_TOKEN);
+        } catch (UnsupportedJwtException e) {
+            return inactive(SecurityError.UNSUPPORTED_TOKEN);
+        } catch (SignatureException e) {
+            return inactive(SecurityError.INVALID_SIGNATURE);
+        } catch (JwtException e) {
+            //그 외 검증 실패 (PrematureJwtException 등) 도 batch 전체가 아닌 해당 토큰만 실패
+            return inactive(SecurityError.AUTHENTICATION_FAILED);
+        }
+    }
+
+    private static IntrospectionResponse inactive(SecurityError error) {
+        return IntrospectionResponse.builder()
+                .active(false)
+                .error(error.name())
+                .build();
+    }
+}
@@ -0,0 +1,281 @@
+package com.example.demo.security;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * template 기반 HS256 jwt 생성
+ * header 는 키마다 한번 Base64URL 로 만들어 두고 (SigningKey.encodedHeader),
+ * payload 는 jjwt JwtBuilder 와 같은 순서 / 형식 ({"jti":..,"sub":..,"rl" 또는 "roles":..,"exp":..}) 으로
+ * 스레드별 버퍼에 직접 써서 인코딩한다. 같은 jti / exp 이면 JwtBuilder 결과와 글자 단위로 같다.
+ * 토큰 쌍을 만들 때 sub 와 권한 claim 은 한번만 쓰고, 서명은 SigningKey 의 스레드별 Mac 을 재사용한다.
+ */
+final class TokenMinter {
+
+    private static final byte[] BASE64URL = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX_UPPER = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final int SIGNATURE_LENGTH = 32;
+
+    private static final byte[] JTI = ascii("{\"jti\":\"");
+    private static final byte[] SUB = ascii("\",\"sub\":\"");
+    private static final byte[] RL = ascii("\",\"rl\":");
+    private static final byte[] ROLES = ascii("\",\"roles\":\"");
+    private static final byte[] ROLES_END = ascii("\"");
+    private static final byte[] EXP = ascii(",\"exp\":");
+
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    private TokenMinter() {
+    }
+
+    /**
+     * 같은 사용자 / 권한 / 발급 시각으로 토큰 여러 개 생성
+     * @param signingKey 서명 키
+     * @param subject sub
+     * @param roleMask rl claim (0 이상일 때), 음수면 roles 사용
+     * @param roles roles claim (쉼표 구분, roleMask 가 음수일 때)
+     * @param expirations 토큰별 만료 시각 (epoch millis)
+     * @return expirations 순서의 토큰
+     */
+    static String[] mint(SigningKey signingKey, String subject, long roleMask, String roles, long... expirations) {
+        Buffers buffers = BUFFERS.get();
+
+        //"sub" 부터 권한 claim 까지는 모든 토큰이 같음
+        buffers.claims.reset();
+        buffers.claims.write(SUB);
+        buffers.claims.writeJsonString(subject);
+        if(roleMask >= 0) {
+            buffers.claims.write(RL);
+            buffers.claims.writeLong(roleMask);
+        } else {
+            buffers.claims.write(ROLES);
+            buffers.claims.writeJsonString(roles);
+            buffers.claims.write(ROLES_END);
+        }
+
+        String[] tokens = new String[expirations.length];
+        for(int i = 0; i < expirations.length; i++) tokens[i] = mint(signingKey, buffers, expirations[i]);
+        return tokens;
+    }
+
+    /**
+     * 키의 header ({"kid":..,"alg":"HS256"}) Base64URL
+     */
+    static byte[] encodeHeader(String kid) {
+        Output json = new Output(64);
+        json.write(ascii("{\"kid\":\""));
+        json.writeJsonString(kid);
+        json.write(ascii("\",\"alg\":\"HS256\"}"));
+        Output encoded = new Output(128);
+        encoded.writeBase64Url(json.bytes, 0, json.length);
+        return Arrays.copyOf(encoded.bytes, encoded.length);
+    }
+
+    private static String mint(SigningKey signingKey, Buffers buffers, long expiration) {
+        Output json = buffers.json;
+        json.reset();
+        json.write(JTI);
+        json.writeTokenId(ThreadLocalRandom.current());
+        json.write(buffers.claims.bytes, 0, buffers.claims.length);
+        json.write(EXP);
+        json.writeLong(expiration / 1000);
+        json.write('}');
+
+        Output token = buffers.token;
+        token.reset();
+        token.write(signingKey.encodedHeader());
+        token.write('.');
+        token.writeBase64Url(json.bytes, 0, json.length);
+
+        Mac mac = signingKey.mac();
+        mac.update(token.bytes, 0, token.length);
+        try {
+            mac.doFinal(buffers.signature, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+        token.write('.');
+        token.writeBase64Url(buffers.signature, 0, SIGNATURE_LENGTH);
+
+        //모두 ASCII 이므로 ISO_8859_1 (Latin-1 문자열로 그대로 복사)
+        return new String(token.bytes, 0, token.length, StandardCharsets.ISO_8859_1);
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 늘어나는 byte 배열 (스레드별로 재사용)
+     */
+    private static class Output {
+        private byte[] bytes;
+        private int length;
+
+        private Output(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        private void reset() {
+            length = 0;
+        }
+
+        private void ensure(int additional) {
+            if(length + additional > bytes.length) bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + additional));
+        }
+
+        private void write(int b) {
+            ensure(1);
+            bytes[length++] = (byte) b;
+        }
+
+        private void write(byte[] source) {
+            write(source, 0, source.length);
+        }
+
+        private void write(byte[] source, int from, int count) {
+            ensure(count);
+            System.arraycopy(source, from, bytes, length, count);
+            length += count;
+        }
+
+        private void writeLong(long value) {
+            if(value == Long.MIN_VALUE) {
+                write(ascii(Long.toString(value)));
+                return;
+            }
+            if(value < 0) {
+                write('-');
+                value = -value;
+            }
+            int digits = 1;
+            for(long rest = value / 10; rest > 0; rest /= 10) digits++;
+            ensure(digits);
+            for(int i = length + digits - 1; i >= length; i--) {
+                bytes[i] = (byte) ('0' + value % 10);
+                value /= 10;
+            }
+            length += digits;
+        }
+
+        /**
+         * UUID.toString 과 같은 형식 (8-4-4-4-12 소문자 hex) 의 임의 jti, 문자열을 만들지 않고 바로 씀
+         */
+        private void writeTokenId(ThreadLocalRandom random) {
+            long most = random.nextLong();
+            long least = random.nextLong();
+            ensure(36);
+            writeHex(most >>> 32, 8);
+            bytes[length++] = '-';
+            writeHex(most >>> 16, 4);
+            bytes[length++] = '-';
+            writeHex(most, 4);
+            bytes[length++] = '-';
+            writeHex(least >>> 48, 4);
+            bytes[length++] = '-';
+            writeHex(least, 12);
+        }
+
+        private void writeHex(long value, int digits) {
+            for(int i = length + digits - 1; i >= length; i--) {
+                bytes[i] = HEX[(int) (value & 0xF)];
+                value >>>= 4;
+            }
+            length += digits;
+        }
+
+        /**
+         * JSON 문자열 내용 (따옴표 제외, UTF-8)
+         * Jackson 기본 설정과 같게 " \ 와 제어 문자, surrogate 만 escape 한다.
+         */
+        private void writeJsonString(String value) {
+            ensure(value.length());
+            for(int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if(c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+                    ensure(1);
+                    bytes[length++] = (byte) c;
+                } else if(c == '"' || c == '\\') {
+                    write('\\');
+                    write(c);
+                } else if(c < 0x20) {
+                    writeControl(c);
+                } else if(c < 0x800) {
+                    ensure(2);
+                    bytes[length++] = (byte) (0xC0 | (c >> 6));
+                    bytes[length++] = (byte) (0x80 | (c & 0x3F));
+                } else if(Character.isSurrogate(c)) {
+                    //Jackson 처럼 surrogate 는 짝이 있든 없든 code unit 마다 \\uD83D\\uDE00 형식으로 escape
+                    writeUnicodeEscape(c);
+                } else {
+                    ensure(3);
+                    bytes[length++] = (byte) (0xE0 | (c >> 12));
+                    bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    bytes[length++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+        }
+
+        private void writeControl(char c) {
+            switch(c) {
+                case '\b': write('\\'); write('b'); break;
+                case '\t': write('\\'); write('t'); break;
+                case '\n': write('\\'); write('n'); break;
+                case '\f': write('\\'); write('f'); break;
+                case '\r': write('\\'); write('r'); break;
+                default: writeUnicodeEscape(c);
+            }
+        }
+
+        /**
+         * \\uXXXX (대문자 hex)
+         */
+        private void writeUnicodeEscape(char c) {
+            ensure(6);
+            bytes[length++] = '\\';
+            bytes[length++] = 'u';
+            bytes[length++] = HEX_UPPER[c >> 12];
+            bytes[length++] = HEX_UPPER[(c >> 8) & 0xF];
+            bytes[length++] = HEX_UPPER[(c >> 4) & 0xF];
+            bytes[length++] = HEX_UPPER[c & 0xF];
+        }
+
+        /**
+         * Base64URL 인코딩 (padding 없음)
+         */
+        private void writeBase64Url(byte[] source, int from, int count) {
+            ensure((count + 2) / 3 * 4);
+            int end = from + count - count % 3;
+            int i = from;
+            for(; i < end; i += 3) {
+                int bits = (source[i] & 0xFF) << 16 | (source[i + 1] & 0xFF) << 8 | (source[i + 2] & 0xFF);
+                bytes[length++] = BASE64URL[bits >>> 18];
+                bytes[length++] = BASE64URL[(bits >>> 12) & 0x3F];
+                bytes[length++] = BASE64URL[(bits >>> 6) & 0x3F];
+                bytes[length++] = BASE64URL[bits & 0x3F];
+            }
+            int remaining = count % 3;
+            if(remaining == 1) {
+                int bits = (source[i] & 0xFF) << 16;
+                bytes[length++] = BASE64URL[bits >>> 18];
+                bytes[length++] = BASE64URL[(bits >>> 12) & 0x3F];
+            } else if(remaining == 2) {
+                int bits = (source[i] & 0xFF) << 16 | (source[i + 1] & 0xFF) << 8;
+                bytes[length++] = BASE64URL[bits >>> 18];
+                bytes[length++] = BASE64URL[(bits >>> 12) & 0x3F];
+                bytes[length++] = BASE64URL[(bits >>> 6) & 0x3F];
+            }
+        }
+    }
+
+    private static class Buffers {
+        private final Output claims = new Output(128);
+        private final Output json = new Output(256);
+        private final Output token = new Output(512);
+        private final byte[] signature = new byte[SIGNATURE_LENGTH];
+    }
+}
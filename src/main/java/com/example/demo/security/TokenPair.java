@@ -0,0 +1,24 @@
+package com.example.demo.security;
+
+import lombok.Getter;
+
+/**
+ * 같은 시각에 발급한 accessToken / refreshToken
+ */
+@Getter
+public class TokenPair {
+
+    private final String accessToken;
+    private final String refreshToken;
+    private final long issuedAt; // epoch millis
+    private final long accessTokenExpiresAt; // epoch millis
+    private final long refreshTokenExpiresAt; // epoch millis
+
+    public TokenPair(String accessToken, String refreshToken, long issuedAt, long accessTokenExpiresAt, long refreshTokenExpiresAt) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+        this.issuedAt = issuedAt;
+        this.accessTokenExpiresAt = accessTokenExpiresAt;
+        this.refreshTokenExpiresAt = refreshTokenExpiresAt;
+    }
+}
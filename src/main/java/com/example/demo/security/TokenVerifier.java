@@ -0,0 +1,16 @@
+package com.example.demo.security;
+
+/**
+ * jwt 서명 / claims 검증 엔진
+ * JwtFilter 가 처리하는 예외 타입(ExpiredJwtException, MalformedJwtException,
+ * SignatureException, UnsupportedJwtException)을 그대로 던져야 한다.
+ */
+public interface TokenVerifier {
+
+    /**
+     * jwt 검증
+     * @param token 받은 토큰
+     * @return 검증된 토큰 정보
+     */
+    VerifiedToken verify(String token);
+}
@@ -0,0 +1,57 @@
+package com.example.demo.security;
+
+import lombok.Getter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * 서명 검증이 끝난 jwt 정보
+ * 검증 시점에 Authentication 을 한번만 만들어 두고 캐시 hit 시 그대로 재사용한다.
+ */
+@Getter
+public class VerifiedToken {
+
+    private final String subject;
+    private final String tokenId; // jti, 이전에 발급된 토큰은 null
+    private final long expiration; // 만료 시간 (epoch millis), exp 가 없으면 Long.MAX_VALUE
+    private final Authentication authentication;
+
+    public VerifiedToken(String subject, String tokenId, long expiration, Collection<? extends GrantedAuthority> authorities) {
+        this.subject = subject;
+        this.tokenId = tokenId;
+        this.expiration = expiration;
+        this.authentication = new ImmutableAuthenticationToken(subject, authorities, this);
+    }
+
+    /**
+     * 여러 요청이 같은 인스턴스를 공유하므로 변경 메소드를 막아둔 Authentication
+     * details 에는 원본 VerifiedToken 이 들어 있다. (로그아웃 시 jti / exp 조회)
+     * 권한 목록은 상위 클래스에 그대로 넘겨 equals / hashCode / toString 이 일반 토큰과 같게 동작한다.
+     * (복사는 검증할 때 한번이고 캐시 hit 에서는 같은 인스턴스를 재사용)
+     */
+    static class ImmutableAuthenticationToken extends UsernamePasswordAuthenticationToken {
+
+        ImmutableAuthenticationToken(String subject, Collection<? extends GrantedAuthority> authorities, VerifiedToken verifiedToken) {
+            super(subject, "", authorities);
+            super.setDetails(verifiedToken);
+        }
+
+        @Override
+        public void setAuthenticated(boolean isAuthenticated) {
+            throw new UnsupportedOperationException("공유되는 Authentication 은 변경할 수 없습니다.");
+        }
+
+        @Override
+        public void setDetails(Object details) {
+            throw new UnsupportedOperationException("공유되는 Authentication 은 변경할 수 없습니다.");
+        }
+
+        @Override
+        public void eraseCredentials() {
+            //credentials 는 항상 빈 문자열이므로 지울 것이 없음
+        }
+    }
+}
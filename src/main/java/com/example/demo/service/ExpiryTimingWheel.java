@@ -0,0 +1,139 @@
+package com.example.demo.service;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * 계층형 timing wheel (만료 예약)
+ * 단계마다 64칸이고 한 칸의 길이는 아래 단계 한 바퀴 (tick, 64 tick, 4096 tick ...) 이다.
+ * 예약은 만료까지 남은 시간에 맞는 단계의 칸에 (id, 만료 tick) 을 붙이는 O(1) 이고,
+ * 시간이 흐르면 위 단계의 칸이 아래 단계로 내려오다가 0 단계 칸이 돌아올 때 만료된다.
+ * 항목은 long 두 개 (16 byte) 라 수백만 건도 객체 없이 배열로만 들고 있는다.
+ * 취소는 없으므로 호출자는 만료 통보를 받은 id 가 아직 유효한지 다시 확인해야 한다.
+ */
+public class ExpiryTimingWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private final long tickMilliSeconds;
+    private final int levels;
+    private final Slot[][] wheels;
+    private long currentTick; // 이 tick 부터 아직 처리 안함
+    private long size;
+
+    /**
+     * @param tickMilliSeconds 한 tick 의 길이 (만료 통보가 늦어질 수 있는 최대 시간)
+     * @param levels 단계 수 (표현 가능한 범위 tick * 64^levels, 넘으면 맨 위 단계에서 다시 예약)
+     * @param startMillis 시작 시각 (epoch millis)
+     */
+    public ExpiryTimingWheel(long tickMilliSeconds, int levels, long startMillis) {
+        this.tickMilliSeconds = tickMilliSeconds;
+        this.levels = levels;
+        this.wheels = new Slot[levels][SLOTS];
+        for(Slot[] wheel : wheels)
+            for(int i = 0; i < SLOTS; i++) wheel[i] = new Slot();
+        this.currentTick = startMillis / tickMilliSeconds;
+    }
+
+    /**
+     * 만료 예약
+     * @param id 대상 id
+     * @param expiresAt 만료 시각 (epoch millis)
+     */
+    public synchronized void schedule(long id, long expiresAt) {
+        //만료 시각 이후의 tick 에서 통보 (일찍 통보하지 않음)
+        place(id, (expiresAt + tickMilliSeconds - 1) / tickMilliSeconds);
+        size++;
+    }
+
+    /**
+     * 현재 시각까지 시간 진행
+     * @param nowMillis 현재 시각 (epoch millis)
+     * @param expired 만료된 id 를 받음 (lock 을 잡은 채 호출되므로 가볍게 모으기만 해야 함)
+     * @return 만료된 건수
+     */
+    public synchronized int advance(long nowMillis, LongConsumer expired) {
+        long nowTick = nowMillis / tickMilliSeconds;
+        int count = 0;
+        for(; currentTick <= nowTick; currentTick++) {
+            cascade(currentTick);
+
+            Slot slot = wheels[0][(int) (currentTick & SLOT_MASK)];
+            if(slot.size == 0) continue;
+            long[] entries = slot.entries;
+            int entrySize = slot.size;
+            slot.clear();
+            for(int i = 0; i < entrySize; i += 2) {
+                if(entries[i + 1] <= currentTick) {
+                    expired.accept(entries[i]);
+                    size--;
+                    count++;
+                } else {
+                    place(entries[i], entries[i + 1]);
+                }
+            }
+        }
+        return count;
+    }
+
+    public synchronized long size() {
+        return size;
+    }
+
+    /**
+     * 예약 항목이 차지하는 배열 크기 (byte, 배열 header 제외)
+     */
+    public synchronized long estimatedBytes() {
+        long bytes = 0;
+        for(Slot[] wheel : wheels)
+            for(Slot slot : wheel) bytes += slot.entries == null ? 0 : slot.entries.length * 8L;
+        return bytes;
+    }
+
+    /**
+     * tick 이 위 단계 칸의 경계면 그 칸의 항목을 아래 단계로 다시 배치 (위 단계부터)
+     */
+    private void cascade(long tick) {
+        for(int level = levels - 1; level >= 1; level--) {
+            if((tick & ((1L << (SLOT_BITS * level)) - 1)) != 0) continue;
+            Slot slot = wheels[level][(int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK)];
+            if(slot.size == 0) continue;
+            long[] entries = slot.entries;
+            int entrySize = slot.size;
+            slot.clear();
+            for(int i = 0; i < entrySize; i += 2) place(entries[i], entries[i + 1]);
+        }
+    }
+
+    private void place(long id, long expiryTick) {
+        //이미 지난 만료는 다음에 처리할 칸으로
+        long tick = Math.max(expiryTick, currentTick);
+        long delta = tick - currentTick;
+        int level = 0;
+        while(level < levels - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) level++;
+        wheels[level][(int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK)].add(id, expiryTick);
+    }
+
+    /**
+     * (id, 만료 tick) 쌍을 이어 붙인 배열
+     */
+    private static class Slot {
+        private long[] entries;
+        private int size;
+
+        private void add(long id, long expiryTick) {
+            if(entries == null) entries = new long[8];
+            else if(size == entries.length) entries = Arrays.copyOf(entries, size * 2);
+            entries[size++] = id;
+            entries[size++] = expiryTick;
+        }
+
+        //처리한 칸은 배열을 놓아 메모리를 돌려줌
+        private void clear() {
+            entries = null;
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.demo.service;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * 메모리 토큰 상태 저장소 (token-state.store=memory)
+ * 여러 인스턴스가 같은 객체를 공유하면 네트워크 저장소 (Redis 등) 를 대신하는 기준 구현으로 쓸 수 있다.
+ * 변경 알림은 listener 마다 전용 스레드로 비동기 전달하므로 변경한 쪽은 다른 인스턴스의 처리를 기다리지 않고,
+ * listener 하나 안에서는 변경 순서대로 도착한다. (네트워크 pub/sub 과 같은 성질)
+ * 재시작하면 상태가 사라지므로 운영에서는 단일 인스턴스에서만 쓴다.
+ */
+public class InMemoryTokenStateStore implements TokenStateStore {
+
+    private final ConcurrentHashMap<ByteBuffer, Session> sessions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> revokedAccessTokens = new ConcurrentHashMap<>();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void saveRefreshToken(String username, byte[] tokenHash, long expiresAt) {
+        sessions.put(ByteBuffer.wrap(tokenHash.clone()), new Session(username, expiresAt));
+        if(sessions.size() % 1024 == 0) removeExpired(System.currentTimeMillis());
+    }
+
+    @Override
+    public boolean rotateRefreshToken(String username, byte[] tokenHash, byte[] newTokenHash, long expiresAt) {
+        ByteBuffer key = ByteBuffer.wrap(tokenHash);
+        Session session = sessions.get(key);
+        if(session == null || !session.username.equals(username) || session.expiresAt <= System.currentTimeMillis()) return false;
+        //같은 토큰으로 동시에 재발급해도 remove 에 성공한 하나만 교체
+        if(!sessions.remove(key, session)) return false;
+        sessions.put(ByteBuffer.wrap(newTokenHash.clone()), new Session(username, expiresAt));
+        publish(listener -> listener.refreshTokenInvalidated(tokenHash.clone()));
+        return true;
+    }
+
+    @Override
+    public long findRefreshTokenExpiry(String username, byte[] tokenHash) {
+        Session session = sessions.get(ByteBuffer.wrap(tokenHash));
+        return session == null || !session.username.equals(username) ? 0 : session.expiresAt;
+    }
+
+    @Override
+    public void revokeRefreshToken(String username, byte[] tokenHash) {
+        ByteBuffer key = ByteBuffer.wrap(tokenHash);
+        Session session = sessions.get(key);
+        if(session == null || !session.username.equals(username) || !sessions.remove(key, session)) return;
+        publish(listener -> listener.refreshTokenInvalidated(tokenHash.clone()));
+    }
+
+    @Override
+    public void revokeRefreshTokens(String username) {
+        sessions.values().removeIf(session -> session.username.equals(username));
+        publish(listener -> listener.refreshTokensInvalidated(username));
+    }
+
+    @Override
+    public void revokeAccessToken(String tokenId, long expiresAt) {
+        revokedAccessTokens.put(tokenId, expiresAt);
+        publish(listener -> listener.accessTokenRevoked(tokenId, expiresAt));
+    }
+
+    @Override
+    public void forEachRevokedAccessToken(long now, ObjLongConsumer<String> consumer) {
+        revokedAccessTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        for(Map.Entry<String, Long> entry : revokedAccessTokens.entrySet())
+            consumer.accept(entry.getKey(), entry.getValue());
+    }
+
+    @Override
+    public void addListener(TokenStateListener listener) {
+        subscribers.add(new Subscriber(listener));
+    }
+
+    /**
+     * 알림 스레드 종료 (공유하는 인스턴스가 모두 내려간 뒤)
+     */
+    public void shutdown() {
+        for(Subscriber subscriber : subscribers) subscriber.executor.shutdownNow();
+        subscribers.clear();
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    private void removeExpired(long now) {
+        sessions.values().removeIf(session -> session.expiresAt <= now);
+        revokedAccessTokens.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+    private void publish(Consumer<TokenStateListener> event) {
+        for(Subscriber subscriber : subscribers) {
+            try {
+                subscriber.executor.execute(() -> event.accept(subscriber.listener));
+            } catch (RejectedExecutionException e) {
+                //종료된 인스턴스의 listener
+                subscribers.remove(subscriber);
+            }
+        }
+    }
+
+    private static class Session {
+        private final String username;
+        private final long expiresAt;
+
+        private Session(String username, long expiresAt) {
+            this.username = username;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static class Subscriber {
+        private final TokenStateListener listener;
+        private final ExecutorService executor;
+
+        private Subscriber(TokenStateListener listener) {
+            this.listener = listener;
+            this.executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "token-state-events");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -0,0 +1,415 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.RefreshTokenSession;
+import com.example.demo.domain.RevokedAccessToken;
+import com.example.demo.domain.TokenStateEvent;
+import com.example.demo.repository.RefreshTokenSessionRepository;
+import com.example.demo.repository.RevokedAccessTokenRepository;
+import com.example.demo.repository.RefreshTokenSessionRepository.SessionExpiry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * DB 토큰 상태 저장소 (token-state.store=jpa, 기본)
+ * refreshToken 세션은 refresh_token_session, 폐기된 accessToken 은 revoked_access_token 테이블에 둔다.
+ * 만료 삭제는 테이블을 주기적으로 훑지 않고 ExpiryTimingWheel 에 세션 id 별 만료 시각을 예약해 두었다가
+ * 만료된 id 만 purge-batch-size 개씩 id 로 삭제한다.
+ * 재발급으로 연장된 세션은 삭제 조건(expires_at <= now)에 걸리지 않으므로 새 만료 시각으로 다시 예약한다.
+ * (재발급 때는 예약하지 않으므로 wheel 항목 수는 살아있는 세션 수와 같다)
+ * 폐기된 accessToken 은 1분마다 만료된 행을 지운다.
+ * 로그인 세션 INSERT 는 RefreshTokenWriteBehind 로 모아 JDBC batch 로 저장할 수 있다. (JWT.refreshToken-write-behind-enabled)
+ * 아직 저장되지 않은 세션은 조회 시 버퍼에서 찾고, 교체 / 삭제 전에는 버퍼를 먼저 비워 한번만 사용 조건을 UPDATE 행 수로 유지한다.
+ * 변경 알림은 commit 후 이 인스턴스의 listener 에 바로 보내고, 같은 transaction 에서 token_state_event 에 기록한다.
+ * 각 인스턴스는 poll-interval 마다 마지막으로 읽은 event_id 이후의 다른 인스턴스 변경을 읽어 listener 에 전달한다.
+ * (먼저 받은 id 보다 늦게 commit 된 event 를 놓치지 않도록 건너뛴 id 는 EVENT_GAP_TIMEOUT_MILLIS 동안 다시 조회)
+ */
+@Component
+@ConditionalOnProperty(name = "token-state.store", havingValue = "jpa")
+public class JpaTokenStateStore implements TokenStateStore {
+
+    private static final int WHEEL_LEVELS = 4; // tick 1초 기준 약 194일
+    private static final long REVOCATION_PURGE_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final int EVENT_POLL_LIMIT = 1000;
+    //이 시간 안에 나타나지 않는 건너뛴 event id 는 rollback 된 것으로 봄
+    private static final long EVENT_GAP_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+    private static final int MAX_EVENT_GAPS = 1000;
+    private static final String EVENT_COLUMNS = "select event_id, node_id, event_type, username, token_hash, token_id, expires_at from token_state_event";
+
+    private final Logger log = LoggerFactory.getLogger(JpaTokenStateStore.class);
+    private final RefreshTokenSessionRepository refreshTokenSessionRepository;
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final long tickMilliSeconds;
+    private final int purgeBatchSize;
+    private final ExpiryTimingWheel wheel;
+    private final TransactionTemplate insertTransaction;
+    private final TransactionTemplate changeTransaction;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final long pollIntervalMillis;
+    private final long eventRetentionMillis;
+    private final RefreshTokenWriteBehind writeBehind;
+    private final LongAdder purgedCount = new LongAdder();
+    private final List<TokenStateListener> listeners = new CopyOnWriteArrayList<>();
+    private final LongAdder receivedEventCount = new LongAdder();
+    private ScheduledExecutorService scheduler;
+    private ScheduledExecutorService poller;
+    //poller 스레드에서만 사용
+    private long eventWatermark;
+    private final Map<Long, Long> eventGaps = new HashMap<>(); // 건너뛴 event id → 처음 건너뛴 시각
+
+    public JpaTokenStateStore(RefreshTokenSessionRepository refreshTokenSessionRepository,
+                              RevokedAccessTokenRepository revokedAccessTokenRepository,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${JWT.refreshToken-purge-tick-millis}") long tickMilliSeconds,
+                              @Value("${JWT.refreshToken-purge-batch-size}") int purgeBatchSize,
+                              @Value("${JWT.refreshToken-write-behind-enabled}") boolean writeBehindEnabled,
+                              @Value("${JWT.refreshToken-write-behind-capacity}") int writeBehindCapacity,
+                              @Value("${JWT.refreshToken-write-behind-batch-size}") int writeBehindBatchSize,
+                              @Value("${JWT.refreshToken-write-behind-flush-interval-millis}") long writeBehindFlushIntervalMillis,
+                              @Value("${token-state.poll-interval-millis}") long pollIntervalMillis,
+                              @Value("${token-state.event-retention-seconds}") long eventRetentionSeconds) {
+        this.refreshTokenSessionRepository = refreshTokenSessionRepository;
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.tickMilliSeconds = tickMilliSeconds;
+        this.purgeBatchSize = purgeBatchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.eventRetentionMillis = TimeUnit.SECONDS.toMillis(eventRetentionSeconds);
+        this.wheel = new ExpiryTimingWheel(tickMilliSeconds, WHEEL_LEVELS, System.currentTimeMillis());
+        //재발급 transaction 안에서 flush 해도 batch 는 따로 commit
+        this.insertTransaction = new TransactionTemplate(transactionManager);
+        this.insertTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        //변경과 event 기록은 같은 transaction (호출자의 transaction 이 있으면 참여)
+        this.changeTransaction = new TransactionTemplate(transactionManager);
+        this.writeBehind = new RefreshTokenWriteBehind(this::insertSessions, writeBehindEnabled,
+                writeBehindCapacity, writeBehindBatchSize, writeBehindFlushIntervalMillis);
+    }
+
+    /**
+     * 이전 실행에서 남은 만료 세션 삭제 후 살아있는 세션 예약
+     */
+    @PostConstruct
+    protected void start() {
+        long now = System.currentTimeMillis();
+        int deleted = refreshTokenSessionRepository.deleteAllExpired(now);
+        revokedAccessTokenRepository.deleteExpired(now);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("select session_id, expires_at from refresh_token_session");
+            statement.setFetchSize(10_000);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> wheel.schedule(resultSet.getLong(1), resultSet.getLong(2)));
+        log.info("refreshToken 세션 {}건 예약, 만료 세션 {}건 삭제", wheel.size(), deleted);
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-state-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::purgeQuietly, tickMilliSeconds, tickMilliSeconds, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::purgeRevocationsQuietly, REVOCATION_PURGE_MILLIS, REVOCATION_PURGE_MILLIS, TimeUnit.MILLISECONDS);
+
+        //시작 전의 변경은 near-cache 에 없으므로 지금부터 읽음 (폐기 accessToken 은 forEachRevokedAccessToken 으로 불러옴)
+        eventWatermark = jdbcTemplate.queryForObject("select coalesce(max(event_id), 0) from token_state_event", Long.class);
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-state-poll");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::pollEventsQuietly, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 버퍼에 남은 세션 저장 후 종료
+     */
+    @PreDestroy
+    protected void shutdown() throws InterruptedException {
+        if(scheduler != null) scheduler.shutdownNow();
+        if(poller != null) poller.shutdownNow();
+        writeBehind.shutdown();
+    }
+
+    @Override
+    public void saveRefreshToken(String username, byte[] tokenHash, long expiresAt) {
+        RefreshTokenSession session = RefreshTokenSession.builder()
+                .username(username)
+                .tokenHash(tokenHash)
+                .expiresAt(expiresAt)
+                .createdAt(System.currentTimeMillis())
+                .build();
+        if(writeBehind.offer(session)) return;
+
+        session = refreshTokenSessionRepository.save(session);
+        wheel.schedule(session.getId(), expiresAt);
+    }
+
+    @Override
+    public boolean rotateRefreshToken(String username, byte[] tokenHash, byte[] newTokenHash, long expiresAt) {
+        //아직 저장되지 않은 세션이면 먼저 저장 (교체는 UPDATE 행 수로 한번만 성공)
+        if(writeBehind.pending(tokenHash) != null) writeBehind.flush();
+        return changeTransaction.execute(status -> {
+            if(refreshTokenSessionRepository.rotate(username, tokenHash, newTokenHash, expiresAt, System.currentTimeMillis()) != 1) return false;
+            publish(TokenStateEvent.Type.REFRESH_TOKEN_INVALIDATED, null, tokenHash, null, 0,
+                    listener -> listener.refreshTokenInvalidated(tokenHash));
+            return true;
+        });
+    }
+
+    @Override
+    public long findRefreshTokenExpiry(String username, byte[] tokenHash) {
+        RefreshTokenSession pending = writeBehind.pending(tokenHash);
+        if(pending != null) return pending.getUsername().equals(username) ? pending.getExpiresAt() : 0;
+        return refreshTokenSessionRepository.findExpiresAt(username, tokenHash).orElse(0L);
+    }
+
+    @Override
+    public void revokeRefreshToken(String username, byte[] tokenHash) {
+        if(writeBehind.pending(tokenHash) != null) writeBehind.flush();
+        changeTransaction.executeWithoutResult(status -> {
+            refreshTokenSessionRepository.deleteByToken(username, tokenHash);
+            publish(TokenStateEvent.Type.REFRESH_TOKEN_INVALIDATED, null, tokenHash, null, 0,
+                    listener -> listener.refreshTokenInvalidated(tokenHash));
+        });
+    }
+
+    @Override
+    public void revokeRefreshTokens(String username) {
+        if(writeBehind.hasPending()) writeBehind.flush();
+        changeTransaction.executeWithoutResult(status -> {
+            refreshTokenSessionRepository.deleteByUsername(username);
+            publish(TokenStateEvent.Type.REFRESH_TOKENS_INVALIDATED, username, null, null, 0,
+                    listener -> listener.refreshTokensInvalidated(username));
+        });
+    }
+
+    @Override
+    public void revokeAccessToken(String tokenId, long expiresAt) {
+        changeTransaction.executeWithoutResult(status -> {
+            revokedAccessTokenRepository.save(RevokedAccessToken.builder()
+                    .tokenId(tokenId)
+                    .expiresAt(expiresAt)
+                    .build());
+            publish(TokenStateEvent.Type.ACCESS_TOKEN_REVOKED, null, null, tokenId, expiresAt,
+                    listener -> listener.accessTokenRevoked(tokenId, expiresAt));
+        });
+    }
+
+    @Override
+    public void forEachRevokedAccessToken(long now, ObjLongConsumer<String> consumer) {
+        for(RevokedAccessToken token : revokedAccessTokenRepository.findByExpiresAtGreaterThan(now))
+            consumer.accept(token.getTokenId(), token.getExpiresAt());
+    }
+
+    @Override
+    public void addListener(TokenStateListener listener) {
+        listeners.add(listener);
+    }
+
+    public long getScheduledCount() {
+        return wheel.size();
+    }
+
+    public long getPurgedCount() {
+        return purgedCount.sum();
+    }
+
+    public long getWheelBytes() {
+        return wheel.estimatedBytes();
+    }
+
+    public int getPendingInsertCount() {
+        return writeBehind.getPendingCount();
+    }
+
+    public long getReceivedEventCount() {
+        return receivedEventCount.sum();
+    }
+
+    /**
+     * 만료된 세션 삭제
+     * @return 삭제한 건수
+     */
+    public int purge() {
+        long now = System.currentTimeMillis();
+        List<Long> expired = new ArrayList<>();
+        wheel.advance(now, expired::add);
+
+        int deleted = 0;
+        for(int from = 0; from < expired.size(); from += purgeBatchSize) {
+            List<Long> batch = expired.subList(from, Math.min(from + purgeBatchSize, expired.size()));
+            int batchDeleted = refreshTokenSessionRepository.deleteExpired(batch, now);
+            deleted += batchDeleted;
+            //남은 행은 재발급으로 연장된 세션 (로그아웃으로 이미 지운 세션은 조회되지 않음)
+            if(batchDeleted < batch.size()) {
+                for(SessionExpiry session : refreshTokenSessionRepository.findExpiries(batch))
+                    wheel.schedule(session.getId(), session.getExpiresAt());
+            }
+        }
+        purgedCount.add(deleted);
+        return deleted;
+    }
+
+    /**
+     * 만료된 폐기 accessToken 과 보관 기간이 지난 변경 event 삭제
+     * @return 삭제한 폐기 accessToken 건수
+     */
+    public int purgeRevocations() {
+        long now = System.currentTimeMillis();
+        jdbcTemplate.update("delete from token_state_event where created_at < ?", now - eventRetentionMillis);
+        return revokedAccessTokenRepository.deleteExpired(now);
+    }
+
+    /**
+     * 다른 인스턴스의 변경 event 를 읽어 listener 에 전달
+     * @return 전달한 건수
+     */
+    public synchronized int pollEvents() {
+        long now = System.currentTimeMillis();
+        int[] received = new int[1];
+
+        //앞에서 건너뛴 id 중 그 사이 commit 된 event
+        if(!eventGaps.isEmpty()) {
+            List<Long> gaps = new ArrayList<>(eventGaps.keySet());
+            jdbcTemplate.query(EVENT_COLUMNS + " where event_id in (" + String.join(",", Collections.nCopies(gaps.size(), "?")) + ")",
+                    (RowCallbackHandler) resultSet -> {
+                        eventGaps.remove(resultSet.getLong(1));
+                        if(dispatch(resultSet)) received[0]++;
+                    }, gaps.toArray());
+            eventGaps.values().removeIf(skippedAt -> skippedAt < now - EVENT_GAP_TIMEOUT_MILLIS);
+        }
+
+        jdbcTemplate.query(EVENT_COLUMNS + " where event_id > ? order by event_id limit " + EVENT_POLL_LIMIT,
+                (RowCallbackHandler) resultSet -> {
+                    long eventId = resultSet.getLong(1);
+                    for(long skipped = eventWatermark + 1; skipped < eventId && eventGaps.size() < MAX_EVENT_GAPS; skipped++)
+                        eventGaps.put(skipped, now);
+                    eventWatermark = eventId;
+                    if(dispatch(resultSet)) received[0]++;
+                }, eventWatermark);
+        receivedEventCount.add(received[0]);
+        return received[0];
+    }
+
+    /**
+     * event 한 건을 listener 에 전달 (이 인스턴스의 변경은 commit 후 이미 전달했으므로 건너뜀)
+     * @return 전달했으면 true
+     */
+    private boolean dispatch(ResultSet resultSet) throws SQLException {
+        if(nodeId.equals(resultSet.getString(2))) return false;
+
+        switch(TokenStateEvent.Type.valueOf(resultSet.getString(3))) {
+            case REFRESH_TOKEN_INVALIDATED:
+                byte[] tokenHash = resultSet.getBytes(5);
+                listeners.forEach(listener -> listener.refreshTokenInvalidated(tokenHash));
+                break;
+            case REFRESH_TOKENS_INVALIDATED:
+                String username = resultSet.getString(4);
+                listeners.forEach(listener -> listener.refreshTokensInvalidated(username));
+                break;
+            case ACCESS_TOKEN_REVOKED:
+                String tokenId = resultSet.getString(6);
+                long expiresAt = resultSet.getLong(7);
+                listeners.forEach(listener -> listener.accessTokenRevoked(tokenId, expiresAt));
+                break;
+        }
+        return true;
+    }
+
+    /**
+     * 변경 event 기록 (다른 인스턴스용) 후 이 인스턴스의 listener 에 commit 후 알림
+     */
+    private void publish(TokenStateEvent.Type type, String username, byte[] tokenHash, String tokenId, long expiresAt,
+                         Consumer<TokenStateListener> event) {
+        jdbcTemplate.update("insert into token_state_event (node_id, event_type, username, token_hash, token_id, expires_at, created_at) " +
+                "values (?, ?, ?, ?, ?, ?, ?)", nodeId, type.name(), username, tokenHash, tokenId, expiresAt, System.currentTimeMillis());
+        notifyAfterCommit(event);
+    }
+
+    /**
+     * 버퍼에 모인 세션을 한 transaction 에서 저장 (hibernate.jdbc.batch_size 단위 JDBC batch insert)
+     * 실패 후 다시 저장할 때 id 가 남은 entity 를 merge 하지 않도록 새 entity 로 저장한다.
+     */
+    private void insertSessions(List<RefreshTokenSession> sessions) {
+        List<RefreshTokenSession> entities = new ArrayList<>(sessions.size());
+        for(RefreshTokenSession session : sessions) {
+            entities.add(RefreshTokenSession.builder()
+                    .username(session.getUsername())
+                    .tokenHash(session.getTokenHash())
+                    .expiresAt(session.getExpiresAt())
+                    .createdAt(session.getCreatedAt())
+                    .build());
+        }
+        insertTransaction.executeWithoutResult(status -> refreshTokenSessionRepository.saveAll(entities));
+        for(RefreshTokenSession entity : entities) wheel.schedule(entity.getId(), entity.getExpiresAt());
+    }
+
+    /**
+     * 진행 중인 transaction 이 있으면 commit 후, 없으면 바로 알림 (rollback 된 변경은 알리지 않음)
+     */
+    private void notifyAfterCommit(Consumer<TokenStateListener> event) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            listeners.forEach(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                listeners.forEach(event);
+            }
+        });
+    }
+
+    private void purgeQuietly() {
+        try {
+            purge();
+        } catch (RuntimeException e) {
+            //wheel 에서 꺼낸 id 는 다음 시작 시 deleteAllExpired 로 정리됨
+            log.error("refreshToken 세션 만료 삭제 실패", e);
+        }
+    }
+
+    private void pollEventsQuietly() {
+        try {
+            pollEvents();
+        } catch (RuntimeException e) {
+            log.error("토큰 상태 변경 event 조회 실패", e);
+        }
+    }
+
+    private void purgeRevocationsQuietly() {
+        try {
+            purgeRevocations();
+        } catch (RuntimeException e) {
+            log.error("폐기 accessToken 만료 삭제 실패", e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demo.service;
+
+import com.example.demo.exception.ServerBusyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 로그인 / 회원가입에서 BCrypt 다음 작업 (토큰 발급, refreshToken 세션 / 회원 저장) 전용 실행기
+ * 해싱 스레드가 DB 를 기다리지 않고, 요청 스레드도 결과를 기다리지 않고 바로 반환하도록 분리한다.
+ * PasswordHashingExecutor 의 future 에 thenCompose 로 이어 붙이므로 대기열이 가득 차도 예외를 던지지 않고
+ * ServerBusyException(503) 으로 완료된 future 를 돌려준다.
+ */
+@Component
+public class LoginIoExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public LoginIoExecutor(@Value("${login.io-threads}") int threads,
+                           @Value("${login.io-queue-capacity}") int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "login-io-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 작업 실행
+     * @param task DB 작업이 포함된 작업
+     * @return 작업 결과, 작업 중 발생한 예외 또는 대기열이 가득 찬 경우 ServerBusyException 으로 완료
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            return CompletableFuture.failedFuture(new ServerBusyException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+        }
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.LoginDTO;
+import com.example.demo.dto.response.LoginResponse;
+import com.example.demo.metrics.AuthMetrics;
+import com.example.demo.metrics.TimedPasswordEncoder;
+import com.example.demo.security.JwtProvider;
+import com.example.demo.security.SecurityEventLog;
+import com.example.demo.security.SecurityEventType;
+import com.example.demo.security.TokenPair;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsChecker;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 로그인 (servlet / reactive 공용)
+ * 회원 조회는 호출 스레드, 비밀번호 검증(BCrypt)은 PasswordHashingExecutor,
+ * 토큰 발급 / refreshToken 저장은 LoginIoExecutor 에서 실행하고 호출 스레드는 결과를 기다리지 않는다.
+ * (DaoAuthenticationProvider 와 같은 순서: 계정 상태 확인 → 비밀번호 확인, 없는 아이디도 같은 BCrypt 비용)
+ */
+@Service
+public class LoginService {
+
+    private final MemberService memberService;
+    private final UserDetailsCache userDetailsCache;
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final LoginIoExecutor loginIoExecutor;
+    private final JwtProvider jwtProvider;
+    private final AuthMetrics authMetrics;
+    private final SecurityEventLog securityEventLog;
+    private final UserDetailsChecker userDetailsChecker = new AccountStatusUserDetailsChecker();
+    private volatile String userNotFoundPassword;
+
+    public LoginService(MemberService memberService,
+                        UserDetailsCache userDetailsCache,
+                        PasswordEncoder passwordEncoder,
+                        PasswordHashingExecutor passwordHashingExecutor,
+                        LoginIoExecutor loginIoExecutor,
+                        JwtProvider jwtProvider,
+                        AuthMetrics authMetrics,
+                        SecurityEventLog securityEventLog) {
+        this.memberService = memberService;
+        this.userDetailsCache = userDetailsCache;
+        //검증 시간 기록
+        this.passwordEncoder = new TimedPasswordEncoder(passwordEncoder, authMetrics.getLoginPasswordCheck());
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.loginIoExecutor = loginIoExecutor;
+        this.jwtProvider = jwtProvider;
+        this.authMetrics = authMetrics;
+        this.securityEventLog = securityEventLog;
+    }
+
+    /**
+     * 아이디 / 비밀번호 인증 후 accessToken & refreshToken 발급
+     * @param loginDTO 로그인 요청 dto
+     * @param clientIp 요청 IP (보안 이벤트 기록용)
+     * @return 로그인 응답, 인증 실패 시 BadCredentialsException 으로 완료
+     * @throws com.example.demo.exception.ServerBusyException 해싱 대기열이 가득 찬 경우
+     */
+    public CompletableFuture<LoginResponse> login(LoginDTO loginDTO, String clientIp) {
+        String username = loginDTO.getUsername();
+        String password = loginDTO.getPassword();
+        UserDetails user = loadUser(username);
+        try {
+            if(password == null) throw new BadCredentialsException("비밀번호가 없습니다.");
+            if(user != null) userDetailsChecker.check(user);
+        } catch (AuthenticationException e) {
+            securityEventLog.record(SecurityEventType.LOGIN_FAILURE, username, null, null, clientIp);
+            throw e;
+        }
+
+        //없는 아이디도 BCrypt 한번 (응답 시간으로 아이디 존재 여부가 드러나지 않도록)
+        return passwordHashingExecutor.supply(() -> passwordEncoder.matches(password, user != null ? user.getPassword() : userNotFoundPassword()))
+                .thenCompose(matched -> {
+                    if(user == null || !matched) {
+                        securityEventLog.record(SecurityEventType.LOGIN_FAILURE, username, null, null, clientIp);
+                        throw new BadCredentialsException("아이디 또는 비밀번호가 일치하지 않습니다.");
+                    }
+                    return loginIoExecutor.supply(() -> issueTokens(user, clientIp));
+                });
+    }
+
+    /**
+     * 회원 조회 (UserDetailsCache 경유)
+     * @return 회원 정보, 없으면 null
+     */
+    private UserDetails loadUser(String username) {
+        if(username == null) return null;
+        long startedAt = System.nanoTime();
+        try {
+            return userDetailsCache.get(username, memberService::loadUserByUsername);
+        } catch (UsernameNotFoundException e) {
+            return null;
+        } finally {
+            authMetrics.getLoginUserLookup().recordSince(startedAt);
+        }
+    }
+
+    private String userNotFoundPassword() {
+        if(userNotFoundPassword == null) userNotFoundPassword = passwordEncoder.encode("userNotFoundPassword");
+        return userNotFoundPassword;
+    }
+
+    private LoginResponse issueTokens(UserDetails user, String clientIp) {
+        //캐시된 User 가 인증 후 바뀌지 않도록 principal 은 username 만 사용
+        Authentication authentication = new UsernamePasswordAuthenticationToken(user.getUsername(), null, user.getAuthorities());
+        securityEventLog.record(SecurityEventType.LOGIN_SUCCESS, authentication.getName(), null, null, clientIp);
+
+        //jwt accessToken & refreshToken 발급 (같은 발급 시각)
+        long mintingStartedAt = System.nanoTime();
+        TokenPair tokens = jwtProvider.generateTokenPair(authentication);
+        authMetrics.getLoginTokenMinting().recordSince(mintingStartedAt);
+
+        //회원 DB에 refreshToken 저장
+        long saveStartedAt = System.nanoTime();
+        memberService.findMemberAndSaveRefreshToken(authentication.getName(), tokens.getRefreshToken(), tokens.getRefreshTokenExpiresAt());
+        authMetrics.getLoginRefreshTokenSave().recordSince(saveStartedAt);
+
+        //발급 시간과 만료 시간은 토큰과 같은 시각 기준
+        LocalDateTime issuedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(tokens.getIssuedAt()), ZoneId.systemDefault());
+        return LoginResponse.builder()
+                .status(HttpStatus.OK.value())
+                .message("로그인 성공")
+                .accessToken(tokens.getAccessToken())
+                .expiredAt(issuedAt.plusSeconds(jwtProvider.getAccessTokenValidMilliSeconds()/1000))
+                .refreshToken(tokens.getRefreshToken())
+                .issuedAt(issuedAt)
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.demo.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회원 일괄 가입 요청 body 를 줄 단위로 읽음 (전체 body 를 메모리에 올리지 않음)
+ * NDJSON: {"username":"..","password":"..","name":".."} 한 줄에 하나
+ * CSV: username,password,name (첫 줄이 이 header 면 건너뜀, 큰따옴표로 감싼 값 지원)
+ */
+class MemberImportReader {
+
+    enum Format { NDJSON, CSV }
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private long lineNumber;
+
+    MemberImportReader(Reader reader, Format format, ObjectMapper objectMapper) {
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 다음 행들 읽기
+     * @param max 최대 행 수
+     * @return 읽은 행 (빈 줄 제외), 끝이면 빈 목록
+     */
+    List<Row> read(int max) throws IOException {
+        List<Row> rows = new ArrayList<>(max);
+        for(String line; rows.size() < max && (line = reader.readLine()) != null; ) {
+            lineNumber++;
+            if(line.isBlank()) continue;
+            if(format == Format.CSV && lineNumber == 1 && line.trim().equalsIgnoreCase("username,password,name")) continue;
+            rows.add(format == Format.NDJSON ? ndjson(line) : csv(line));
+        }
+        return rows;
+    }
+
+    private Row ndjson(String line) {
+        try {
+            JsonNode json = objectMapper.readTree(line);
+            if(!json.isObject()) return Row.invalid(lineNumber, "JSON 객체가 아닙니다.");
+            return new Row(lineNumber, text(json, "username"), text(json, "password"), text(json, "name"));
+        } catch (IOException e) {
+            return Row.invalid(lineNumber, "JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private static String text(JsonNode json, String field) {
+        JsonNode value = json.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private Row csv(String line) {
+        List<String> fields = new ArrayList<>(3);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for(int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if(quoted) {
+                if(c != '"') field.append(c);
+                else if(i + 1 < line.length() && line.charAt(i + 1) == '"') field.append(line.charAt(++i));
+                else quoted = false;
+            } else if(c == '"') {
+                quoted = true;
+            } else if(c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        if(quoted || fields.size() != 3) return Row.invalid(lineNumber, "CSV 형식이 올바르지 않습니다. (username,password,name)");
+        return new Row(lineNumber, fields.get(0).trim(), fields.get(1), fields.get(2).trim());
+    }
+
+    /**
+     * 요청 한 줄
+     */
+    static class Row {
+        final long line;
+        final String username;
+        final String name;
+        String password; // 해싱 후 encode 된 값으로 교체
+        final String error; // 형식 오류
+
+        Row(long line, String username, String password, String name) {
+            this(line, username, password, name, null);
+        }
+
+        private Row(long line, String username, String password, String name, String error) {
+            this.line = line;
+            this.username = username;
+            this.password = password;
+            this.name = name;
+            this.error = error;
+        }
+
+        static Row invalid(long line, String error) {
+            return new Row(line, null, null, null, error);
+        }
+    }
+}
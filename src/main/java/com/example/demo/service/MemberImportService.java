@@ -0,0 +1,269 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.Member;
+import com.example.demo.domain.MemberRole;
+import com.example.demo.dto.response.MemberImportResponse;
+import com.example.demo.dto.response.MemberImportResponse.Failure;
+import com.example.demo.exception.ServerBusyException;
+import com.example.demo.repository.MemberRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 일괄 가입 (신규 tenant 계정 생성)
+ * 요청 body 를 batch-size 행씩 읽어서 BCrypt 해싱은 PasswordHashingExecutor 에 최대 hashing-parallelism 개씩 넣어 병렬로 하고
+ * (로그인 / 회원가입 해싱과 같은 스레드를 쓰되 대기열을 다 차지하지 않음)
+ * 저장은 행마다 트랜잭션을 열지 않고 batch 단위 트랜잭션 하나로 한다.
+ * (hibernate.jdbc.batch_size 로 member / member_roles INSERT 가 JDBC batch 로 묶이고 id 는 pooled-lo 로 50개씩 할당)
+ * open-in-view 로 요청 내내 같은 persistence context 를 쓰므로 batch 를 저장할 때마다 비워서 entity 가 쌓이지 않게 한다.
+ * 실패한 행은 건너뛰고 줄 번호와 사유를 응답에 담는다.
+ */
+@Service
+public class MemberImportService {
+
+    private static final Set<MemberRole> ROLES = Set.of(MemberRole.USER, MemberRole.ADMIN);
+    //해싱 대기열이 가득 찼을 때 다시 넣기까지 쉬는 시간, batch 하나가 대기열이 빌 때까지 기다리는 최대 시간
+    private static final long MIN_BUSY_BACKOFF_MILLIS = 5;
+    private static final long MAX_BUSY_BACKOFF_MILLIS = 100;
+    private static final long MAX_BUSY_WAIT_MILLIS = 30_000;
+
+    private final MemberRepository memberRepository;
+    private final EntityManager entityManager;
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final UserDetailsCache userDetailsCache;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxReportedFailures;
+    private final int parallelism;
+
+    public MemberImportService(MemberRepository memberRepository,
+                               EntityManager entityManager,
+                               PasswordEncoder passwordEncoder,
+                               PasswordHashingExecutor passwordHashingExecutor,
+                               UserDetailsCache userDetailsCache,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${member-import.batch-size}") int batchSize,
+                               @Value("${member-import.hashing-parallelism}") int parallelism,
+                               @Value("${member-import.max-reported-failures}") int maxReportedFailures) {
+        this.memberRepository = memberRepository;
+        this.entityManager = entityManager;
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.userDetailsCache = userDetailsCache;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxReportedFailures = maxReportedFailures;
+        this.parallelism = Math.max(1, Math.min(parallelism, passwordHashingExecutor.getPoolSize()));
+    }
+
+    /**
+     * NDJSON 일괄 가입
+     * @param reader 요청 body
+     * @return 가입 / 실패 건수와 실패한 행
+     */
+    public MemberImportResponse importNdjson(Reader reader) throws IOException {
+        return importMembers(new MemberImportReader(reader, MemberImportReader.Format.NDJSON, objectMapper));
+    }
+
+    /**
+     * CSV 일괄 가입
+     * @param reader 요청 body
+     * @return 가입 / 실패 건수와 실패한 행
+     */
+    public MemberImportResponse importCsv(Reader reader) throws IOException {
+        return importMembers(new MemberImportReader(reader, MemberImportReader.Format.CSV, objectMapper));
+    }
+
+    private MemberImportResponse importMembers(MemberImportReader reader) throws IOException {
+        long startedAt = System.nanoTime();
+        Result result = new Result(maxReportedFailures);
+        //요청 안에서 중복된 아이디 (DB 에 있는 아이디는 batch 마다 조회)
+        Set<String> seen = new HashSet<>();
+
+        for(List<MemberImportReader.Row> rows; !(rows = reader.read(batchSize)).isEmpty(); ) {
+            List<MemberImportReader.Row> valid = new ArrayList<>(rows.size());
+            for(MemberImportReader.Row row : rows) {
+                if(row.error != null) result.fail(row, row.error);
+                else if(!StringUtils.hasText(row.username) || !StringUtils.hasText(row.password)) result.fail(row, "username, password 는 필수입니다.");
+                else if(!seen.add(row.username)) result.fail(row, "요청에 중복된 아이디입니다.");
+                else valid.add(row);
+            }
+            if(valid.isEmpty()) continue;
+
+            Set<String> existing = new HashSet<>(memberRepository.findExistingUsernames(
+                    valid.stream().map(row -> row.username).collect(Collectors.toList())));
+            if(!existing.isEmpty()) {
+                valid.removeIf(row -> {
+                    if(!existing.contains(row.username)) return false;
+                    result.fail(row, "이미 존재하는 아이디입니다.");
+                    return true;
+                });
+            }
+
+            hashPasswords(valid, result);
+            if(!valid.isEmpty()) save(valid, result);
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        return MemberImportResponse.builder()
+                .status(HttpStatus.OK.value())
+                .message("회원 일괄 가입 완료")
+                .imported(result.imported)
+                .failed(result.failed)
+                .elapsedMillis(elapsedNanos / 1_000_000)
+                .rowsPerSecond(elapsedNanos == 0 ? 0 : (result.imported + result.failed) * 1e9 / elapsedNanos)
+                .failures(result.failures)
+                .build();
+    }
+
+    /**
+     * 한 행씩 PasswordHashingExecutor 에 넣고 parallelism 개가 진행 중이면 가장 먼저 넣은 작업이 끝날 때까지 기다림
+     * 대기열이 가득 차면 (로그인이 몰린 경우) 진행 중인 작업을 먼저 기다리고, 없으면 잠시 쉬었다가 다시 넣는다.
+     * batch 를 시작하고 MAX_BUSY_WAIT_MILLIS 가 지나도 넣지 못하면 batch 의 남은 행은 실패로 기록하고 rows 에서 뺀다.
+     */
+    private void hashPasswords(List<MemberImportReader.Row> rows, Result result) throws IOException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAX_BUSY_WAIT_MILLIS);
+        Deque<CompletableFuture<String>> inFlight = new ArrayDeque<>(parallelism);
+        boolean busy = false;
+        for(Iterator<MemberImportReader.Row> iterator = rows.iterator(); iterator.hasNext(); ) {
+            MemberImportReader.Row row = iterator.next();
+            if(inFlight.size() == parallelism) inFlight.poll().join();
+
+            CompletableFuture<String> future = busy ? null : supplyHashing(row, inFlight, deadline);
+            if(future != null) {
+                inFlight.add(future);
+            } else {
+                busy = true;
+                result.fail(row, "요청이 많아 비밀번호를 처리하지 못했습니다.");
+                iterator.remove();
+            }
+        }
+        for(CompletableFuture<String> future : inFlight) future.join();
+    }
+
+    /**
+     * @return 해싱 작업, deadline 까지 대기열이 계속 가득 차 있으면 null
+     */
+    private CompletableFuture<String> supplyHashing(MemberImportReader.Row row, Deque<CompletableFuture<String>> inFlight,
+                                                    long deadline) throws IOException {
+        long backoffMillis = MIN_BUSY_BACKOFF_MILLIS;
+        while(true) {
+            try {
+                return passwordHashingExecutor.supply(() -> row.password = passwordEncoder.encode(row.password));
+            } catch (ServerBusyException e) {
+                if(!inFlight.isEmpty()) {
+                    inFlight.poll().join();
+                    continue;
+                }
+                if(System.nanoTime() - deadline >= 0) return null;
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("회원 일괄 가입이 중단되었습니다.");
+                }
+                backoffMillis = Math.min(backoffMillis * 2, MAX_BUSY_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * batch 단위 저장, 실패하면 (중간에 다른 요청이 같은 아이디로 가입한 경우 등) 그 batch 만 한 행씩 다시 저장
+     * 한 행씩 저장할 때 아이디가 이미 있어서 실패한 행만 중복으로 보고, 그 외에는 실제 실패 원인을 기록한다.
+     */
+    private void save(List<MemberImportReader.Row> rows, Result result) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                memberRepository.saveAll(rows.stream().map(MemberImportService::member).collect(Collectors.toList()));
+                memberRepository.flush();
+                //저장한 entity 는 다시 쓰지 않으므로 다음 batch flush 가 이전 batch 까지 확인하지 않도록 비움
+                entityManager.clear();
+            });
+            for(MemberImportReader.Row row : rows) imported(row, result);
+        } catch (DataAccessException | TransactionException e) {
+            for(MemberImportReader.Row row : rows) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        memberRepository.saveAndFlush(member(row));
+                        entityManager.clear();
+                    });
+                    imported(row, result);
+                } catch (DataIntegrityViolationException rowException) {
+                    //username unique key 외의 제약 (컬럼 길이 등) 은 아이디가 없으므로 원인 그대로
+                    if(!memberRepository.findExistingUsernames(List.of(row.username)).isEmpty()) result.fail(row, "이미 존재하는 아이디입니다.");
+                    else result.fail(row, failureReason(rowException));
+                } catch (DataAccessException | TransactionException rowException) {
+                    result.fail(row, failureReason(rowException));
+                }
+            }
+        }
+    }
+
+    /**
+     * @return 가장 안쪽 원인의 첫 줄 (driver 메시지 뒤에 붙는 SQL 문은 제외)
+     */
+    private static String failureReason(Exception e) {
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+        String message = cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage().lines().findFirst().orElse("");
+        return "저장 실패: " + message;
+    }
+
+    private void imported(MemberImportReader.Row row, Result result) {
+        result.imported++;
+        userDetailsCache.evict(row.username);
+    }
+
+    private static Member member(MemberImportReader.Row row) {
+        return Member.builder()
+                .username(row.username)
+                .password(row.password)
+                .name(row.name)
+                .roles(ROLES)
+                .build();
+    }
+
+    private static class Result {
+        private final int maxReportedFailures;
+        private final List<Failure> failures = new ArrayList<>();
+        private long imported;
+        private long failed;
+
+        private Result(int maxReportedFailures) {
+            this.maxReportedFailures = maxReportedFailures;
+        }
+
+        private void fail(MemberImportReader.Row row, String reason) {
+            failed++;
+            if(failures.size() < maxReportedFailures) failures.add(new Failure(row.line, row.username, reason));
+        }
+    }
+}
@@ -7,11 +7,16 @@ import com.example.demo.dto.RefreshTokenDTO;
 import com.example.demo.dto.response.LoginResponse;
 import com.example.demo.exception.InvalidRefreshTokenException;
 import com.example.demo.exception.RefreshTokenException;
+import com.example.demo.metrics.AuthMetrics;
 import com.example.demo.repository.MemberRepository;
 import com.example.demo.security.JwtProvider;
+import com.example.demo.security.RevokedTokenDenylist;
+import com.example.demo.security.SecurityEventLog;
+import com.example.demo.security.SecurityEventType;
+import com.example.demo.security.TokenDigest;
+import com.example.demo.security.TokenPair;
+import com.example.demo.security.VerifiedToken;
 import lombok.RequiredArgsConstructor;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -24,34 +29,52 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Collection;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class MemberService implements UserDetailsService {
 
-    private final Logger log = LoggerFactory.getLogger(MemberService.class);
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final LoginIoExecutor loginIoExecutor;
     private final JwtProvider jwtProvider;
+    private final TokenStateStore tokenStateStore;
+    private final TokenStateNearCache tokenStateNearCache;
+    private final UserDetailsCache userDetailsCache;
+    private final RevokedTokenDenylist revokedTokenDenylist;
+    private final AuthMetrics authMetrics;
+    private final SecurityEventLog securityEventLog;
 
     /**
      * 회원 가입
+     * BCrypt 는 PasswordHashingExecutor, 저장은 LoginIoExecutor 에서 실행하고 호출 스레드는 기다리지 않는다.
+     * (transaction 밖에서 해싱하므로 DB 연결을 붙잡지 않음)
      * @param form 회원가입 form
+     * @return 저장이 끝나면 완료
+     * @throws com.example.demo.exception.ServerBusyException 해싱 대기열이 가득 찬 경우
      */
-    @Transactional
-    public void signUp(MemberForm form) {
-        Member member = Member.builder()
-                .username(form.getUsername())
-                .password(passwordEncoder.encode(form.getPassword()))
-                .name(form.getName())
-                .roles(Set.of(MemberRole.USER, MemberRole.ADMIN))
-                .build();
-
-        memberRepository.save(member);
+    public CompletableFuture<Void> signUp(MemberForm form) {
+        return passwordHashingExecutor.supply(() -> passwordEncoder.encode(form.getPassword()))
+                .thenCompose(password -> loginIoExecutor.supply(() -> {
+                    Member member = Member.builder()
+                            .username(form.getUsername())
+                            .password(password)
+                            .name(form.getName())
+                            .roles(Set.of(MemberRole.USER, MemberRole.ADMIN))
+                            .build();
+
+                    memberRepository.save(member);
+                    userDetailsCache.evict(member.getUsername());
+                    return null;
+                }));
     }
 
     /**
@@ -62,7 +85,6 @@ public class MemberService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String username) {
-        log.info("로그인 요청 회원 찾기");
         Member member = memberRepository.findMemberByUsernameFetch(username)
                 .orElseThrow(() -> new UsernameNotFoundException(username + "아이디가 일치하지 않습니다."));
 
@@ -76,48 +98,88 @@ public class MemberService implements UserDetailsService {
     }
 
     /**
-     * 회원에게 refreshToken 저장
+     * 로그인한 기기의 refreshToken 세션 저장 (다른 기기의 세션은 그대로 유지)
      * @param username 요청 아이디
      * @param refreshToken refreshToken 값
+     * @param expiresAt refreshToken 만료 시각 (epoch millis)
      */
-    @Transactional
-    public void findMemberAndSaveRefreshToken(String username, String refreshToken) {
-        Member member = memberRepository.findMemberByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException(username + " 아이디가 일치하지 않습니다."));
-        member.updateRefreshToken(refreshToken);
+    public void findMemberAndSaveRefreshToken(String username, String refreshToken, long expiresAt) {
+        byte[] tokenHash = TokenDigest.sha256(refreshToken);
+        tokenStateStore.saveRefreshToken(username, tokenHash, expiresAt);
+        tokenStateNearCache.refreshTokenIssued(username, null, tokenHash, expiresAt);
     }
 
     /**
      * refreshToken 으로 accessToken 재발급
      * @param refreshTokenDTO accessToken 재발급 요청 DTO
+     * @param clientIp 요청 IP (보안 이벤트 기록용)
      * @return json response
      */
     @Transactional
-    public LoginResponse refreshToken(RefreshTokenDTO refreshTokenDTO) {
-        if(!refreshTokenDTO.getGrantType().equals("refreshToken"))
-            throw new RefreshTokenException("올바른 grantType 을 입력해주세요");
-
-        Authentication authentication = jwtProvider.getAuthentication(refreshTokenDTO.getRefreshToken());
-
-        Member member = memberRepository.findMemberByUsernameAndRefreshToken(authentication.getName(), refreshTokenDTO.getRefreshToken())
-                .orElseThrow(() -> new InvalidRefreshTokenException("유효하지 않은 리프레시 토큰입니다."));
-        //TODO InvalidRefreshTokenException 예외 Handler
-
-        //jwt accessToken & refreshToken 발급
-        String accessToken = jwtProvider.generateToken(authentication, false);
-        String refreshToken = jwtProvider.generateToken(authentication, true);
-
-        //refreshToken 저장 (refreshToken 은 한번 사용 후 폐기)
-        member.updateRefreshToken(refreshToken);
-
-        LoginResponse response = LoginResponse.builder()
-                .status(HttpStatus.OK.value())
-                .message("accessToken 재발급 성공")
-                .accessToken(accessToken)
-                .expiredAt(LocalDateTime.now().plusSeconds(jwtProvider.getAccessTokenValidMilliSeconds()/1000))
-                .refreshToken(refreshToken)
-                .issuedAt(LocalDateTime.now())
-                .build();
-        return response;
+    public LoginResponse refreshToken(RefreshTokenDTO refreshTokenDTO, String clientIp) {
+        long startedAt = System.nanoTime();
+        try {
+            if(!refreshTokenDTO.getGrantType().equals("refreshToken"))
+                throw new RefreshTokenException("올바른 grantType 을 입력해주세요");
+
+            Authentication authentication = jwtProvider.getAuthentication(refreshTokenDTO.getRefreshToken());
+            byte[] tokenHash = TokenDigest.sha256(refreshTokenDTO.getRefreshToken());
+
+            //이미 교체 / 삭제된 토큰은 near-cache 에서 거절 (토큰 발급, 저장소 접근 없음)
+            if(!tokenStateNearCache.isRefreshTokenLive(authentication.getName(), tokenHash, System.currentTimeMillis()))
+                throw rejectRefreshToken(authentication.getName(), refreshTokenDTO.getRefreshToken(), clientIp);
+
+            //jwt accessToken & refreshToken 발급 (같은 발급 시각)
+            TokenPair tokens = jwtProvider.generateTokenPair(authentication);
+
+            //같은 세션의 refreshToken 교체 (refreshToken 은 한번 사용 후 폐기, 세션이 없거나 이미 사용된 토큰이면 실패)
+            byte[] newTokenHash = TokenDigest.sha256(tokens.getRefreshToken());
+            long expiresAt = tokens.getRefreshTokenExpiresAt();
+            if(!tokenStateStore.rotateRefreshToken(authentication.getName(), tokenHash, newTokenHash, expiresAt))
+                throw rejectRefreshToken(authentication.getName(), refreshTokenDTO.getRefreshToken(), clientIp);
+            tokenStateNearCache.refreshTokenIssued(authentication.getName(), tokenHash, newTokenHash, expiresAt);
+            securityEventLog.record(SecurityEventType.REFRESH_SUCCESS, authentication.getName(), null, null, clientIp);
+
+            //발급 시간과 만료 시간은 토큰과 같은 시각 기준
+            LocalDateTime issuedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(tokens.getIssuedAt()), ZoneId.systemDefault());
+            LoginResponse response = LoginResponse.builder()
+                    .status(HttpStatus.OK.value())
+                    .message("accessToken 재발급 성공")
+                    .accessToken(tokens.getAccessToken())
+                    .expiredAt(issuedAt.plusSeconds(jwtProvider.getAccessTokenValidMilliSeconds()/1000))
+                    .refreshToken(tokens.getRefreshToken())
+                    .issuedAt(issuedAt)
+                    .build();
+            return response;
+        } finally {
+            authMetrics.getRefreshToken().recordSince(startedAt);
+        }
+    }
+
+    /**
+     * 로그아웃 (현재 accessToken 폐기, refreshToken 세션 삭제)
+     * @param verifiedToken 요청에 사용된 accessToken 정보
+     * @param refreshToken 로그아웃할 기기의 refreshToken (null 이면 모든 기기 로그아웃)
+     * @param clientIp 요청 IP (보안 이벤트 기록용)
+     */
+    public void logout(VerifiedToken verifiedToken, String refreshToken, String clientIp) {
+        //이 인스턴스는 바로 반영, 다른 인스턴스는 저장소 알림으로 반영
+        revokedTokenDenylist.revoke(verifiedToken.getTokenId(), verifiedToken.getExpiration());
+        if(verifiedToken.getTokenId() != null)
+            tokenStateStore.revokeAccessToken(verifiedToken.getTokenId(), verifiedToken.getExpiration());
+        if(refreshToken == null) {
+            tokenStateStore.revokeRefreshTokens(verifiedToken.getSubject());
+            tokenStateNearCache.refreshTokensInvalidated(verifiedToken.getSubject());
+        } else {
+            byte[] tokenHash = TokenDigest.sha256(refreshToken);
+            tokenStateStore.revokeRefreshToken(verifiedToken.getSubject(), tokenHash);
+            tokenStateNearCache.refreshTokenInvalidated(tokenHash);
+        }
+        securityEventLog.record(SecurityEventType.LOGOUT, verifiedToken.getSubject(), verifiedToken.getTokenId(), null, clientIp);
+    }
+
+    private InvalidRefreshTokenException rejectRefreshToken(String username, String refreshToken, String clientIp) {
+        securityEventLog.record(SecurityEventType.REFRESH_REJECTED, username, null, refreshToken, clientIp);
+        return new InvalidRefreshTokenException("유효하지 않은 리프레시 토큰입니다.");
     }
-}
\ No newline at end of file
+}
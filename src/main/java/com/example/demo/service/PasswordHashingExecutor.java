@@ -0,0 +1,114 @@
+package com.example.demo.service;
+
+import com.example.demo.exception.ServerBusyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt 전용 실행기
+ * 로그인 / 회원가입의 비밀번호 해싱(encode / matches)만 코어 수 만큼의 스레드에서 처리한다.
+ * 그 다음 토큰 발급 / DB 저장은 LoginIoExecutor 로 넘겨 해싱 스레드가 I/O 를 기다리지 않게 하고, 요청 스레드는 결과를 기다리지 않는다.
+ * 대기열이 가득 차면 바로 ServerBusyException(503) 을 던진다.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public PasswordHashingExecutor(@Value("${login.hashing-threads}") int threads,
+                                   @Value("${login.hashing-queue-capacity}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 해싱 작업 실행
+     * @param task 비밀번호 해싱이 포함된 작업
+     * @return 작업 결과, 작업 중 발생한 예외는 그대로 전달
+     * @throws ServerBusyException 대기열이 가득 찬 경우
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        long enqueuedAt = System.nanoTime();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                recordWait(System.nanoTime() - enqueuedAt);
+                try {
+                    future.complete(task.get());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    completedCount.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            throw new ServerBusyException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return future;
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getPoolSize() {
+        return executor.getCorePoolSize();
+    }
+
+    public long getCompletedCount() {
+        return completedCount.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public long getTotalWaitNanos() {
+        return totalWaitNanos.sum();
+    }
+
+    public long getMaxWaitNanos() {
+        return maxWaitNanos.get();
+    }
+
+    private void recordWait(long waitNanos) {
+        totalWaitNanos.add(waitNanos);
+        long max;
+        while(waitNanos > (max = maxWaitNanos.get()) && !maxWaitNanos.compareAndSet(max, waitNanos)) {
+            //다른 스레드가 먼저 갱신하면 다시 비교
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.RefreshTokenDTO;
+import com.example.demo.dto.response.LoginResponse;
+import com.example.demo.security.TokenDigest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 같은 refreshToken 으로 동시에 들어온 재발급 요청 합치기 (single-flight)
+ * 먼저 들어온 요청 하나만 MemberService.refreshToken 을 실행하고 나머지는 그 결과를 같이 받는다.
+ * 성공한 결과는 grace 기간 동안 남겨 두어 늦게 도착한 중복 요청에도 같은 토큰 쌍을 돌려준다.
+ * (refreshToken 은 한번 사용 후 폐기되므로 그렇지 않으면 늦은 요청은 모두 실패한다.)
+ */
+@Component
+public class RefreshTokenCoordinator {
+
+    private final MemberService memberService;
+    private final long graceMilliSeconds;
+
+    //key 는 refreshToken 의 SHA-256 digest (토큰의 sub 로 사용자가 정해지므로 digest 만으로 사용자별로 나뉨)
+    private final ConcurrentHashMap<ByteBuffer, Flight> flights = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep = new AtomicLong();
+    private final LongAdder coalescedCount = new LongAdder();
+
+    public RefreshTokenCoordinator(MemberService memberService,
+                                   @Value("${JWT.refreshToken-grace-millis}") long graceMilliSeconds) {
+        this.memberService = memberService;
+        this.graceMilliSeconds = graceMilliSeconds;
+    }
+
+    /**
+     * refreshToken 으로 accessToken 재발급 (동시 / 중복 요청은 하나로 합침)
+     * @param refreshTokenDTO accessToken 재발급 요청 DTO
+     * @param clientIp 요청 IP (보안 이벤트는 실제로 재발급한 요청의 IP 로 한번만 기록)
+     * @return json response
+     */
+    public LoginResponse refresh(RefreshTokenDTO refreshTokenDTO, String clientIp) {
+        //잘못된 요청은 합치지 않고 MemberService 에서 바로 실패
+        if(refreshTokenDTO.getRefreshToken() == null || !"refreshToken".equals(refreshTokenDTO.getGrantType()))
+            return memberService.refreshToken(refreshTokenDTO, clientIp);
+
+        ByteBuffer key = digest(refreshTokenDTO.getRefreshToken());
+        while(true) {
+            long now = System.currentTimeMillis();
+            Flight flight = flights.get(key);
+            if(flight != null) {
+                if(flight.completedAt == 0 || now - flight.completedAt <= graceMilliSeconds) {
+                    coalescedCount.increment();
+                    return await(flight);
+                }
+                flights.remove(key, flight);
+                continue;
+            }
+
+            Flight mine = new Flight();
+            if(flights.putIfAbsent(key, mine) != null) continue;
+            sweep(now);
+            return lead(key, mine, refreshTokenDTO, clientIp);
+        }
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    public int size() {
+        return flights.size();
+    }
+
+    private LoginResponse lead(ByteBuffer key, Flight flight, RefreshTokenDTO refreshTokenDTO, String clientIp) {
+        LoginResponse response;
+        try {
+            response = memberService.refreshToken(refreshTokenDTO, clientIp);
+        } catch (Throwable e) {
+            //실패는 남겨 두지 않음 (대기 중인 요청만 같은 예외를 받음)
+            //Error 도 잡아서 완료시키지 않으면 대기 중인 요청과 이후 같은 토큰 요청이 끝나지 않은 flight 를 계속 기다림
+            flights.remove(key, flight);
+            flight.result.completeExceptionally(e);
+            throw e;
+        }
+        flight.completedAt = System.currentTimeMillis();
+        flight.result.complete(response);
+        return response;
+    }
+
+    private static LoginResponse await(Flight flight) {
+        try {
+            return flight.result.join();
+        } catch (CompletionException e) {
+            if(e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            if(e.getCause() instanceof Error) throw (Error) e.getCause();
+            throw e;
+        }
+    }
+
+    /**
+     * grace 기간이 지난 결과 제거 (grace 기간마다 한번)
+     */
+    private void sweep(long now) {
+        long last = lastSweep.get();
+        if(now - last < graceMilliSeconds || !lastSweep.compareAndSet(last, now)) return;
+        flights.values().removeIf(flight -> flight.completedAt != 0 && now - flight.completedAt > graceMilliSeconds);
+    }
+
+    private static ByteBuffer digest(String token) {
+        return ByteBuffer.wrap(TokenDigest.sha256(token));
+    }
+
+    private static class Flight {
+        private final CompletableFuture<LoginResponse> result = new CompletableFuture<>();
+        private volatile long completedAt; // 0 이면 진행 중
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.RefreshTokenSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 로그인 refreshToken 세션 INSERT write-behind 버퍼 (JpaTokenStateStore 가 사용)
+ * 로그인마다 INSERT 트랜잭션을 날리지 않고 batch-size 만큼 쌓이거나 flush-interval 이 지나면 한 트랜잭션에서
+ * JDBC batch insert 로 저장한다. 버퍼가 가득 차거나 꺼져 있으면 offer 가 false 를 돌려주고 호출자가 바로 저장한다.
+ * 교체 / 삭제 (UPDATE / DELETE) 는 버퍼를 거치지 않으므로, 대상 세션이 아직 버퍼에 있으면 호출자가 먼저 flush 한다.
+ */
+public class RefreshTokenWriteBehind {
+
+    private final Logger log = LoggerFactory.getLogger(RefreshTokenWriteBehind.class);
+    private final Consumer<List<RefreshTokenSession>> writer;
+    private final boolean enabled;
+    private final int capacity;
+    private final int batchSize;
+
+    //token digest → 아직 저장되지 않은 세션 (저장이 끝난 뒤에 제거)
+    private final ConcurrentHashMap<ByteBuffer, RefreshTokenSession> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * @param writer 세션 목록을 한 트랜잭션에서 저장 (실패 시 예외)
+     */
+    public RefreshTokenWriteBehind(Consumer<List<RefreshTokenSession>> writer,
+                                   boolean enabled, int capacity, int batchSize, long flushIntervalMillis) {
+        this.writer = writer;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        if(!enabled) {
+            this.scheduler = null;
+            return;
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "refresh-token-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 종료 시 남은 세션 저장
+     */
+    public void shutdown() throws InterruptedException {
+        if(scheduler == null) return;
+        scheduler.shutdown();
+        scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        flush();
+    }
+
+    /**
+     * 세션 저장 예약
+     * @return 버퍼에 넣었으면 true, write-behind 가 꺼져 있거나 가득 찼으면 false
+     */
+    public boolean offer(RefreshTokenSession session) {
+        if(!enabled || pending.size() >= capacity) return false;
+
+        pending.put(ByteBuffer.wrap(session.getTokenHash()), session);
+        if(pending.size() >= batchSize && flushRequested.compareAndSet(false, true))
+            scheduler.execute(this::flushQuietly);
+        return true;
+    }
+
+    /**
+     * 아직 DB 에 저장되지 않은 세션 조회
+     * @param tokenHash refreshToken digest
+     * @return 버퍼에 있는 세션, 없으면 null
+     */
+    public RefreshTokenSession pending(byte[] tokenHash) {
+        if(!enabled) return null;
+        return pending.get(ByteBuffer.wrap(tokenHash));
+    }
+
+    public boolean hasPending() {
+        return !pending.isEmpty();
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 버퍼 비우기
+     * 저장 중인 세션은 저장이 끝날 때까지 버퍼에 남아 있으므로, flush 가 반환되면 그 전에 넣은 세션은 모두 DB 에 있다.
+     * @return 저장한 건수
+     */
+    public synchronized int flush() {
+        flushRequested.set(false);
+        int flushed = 0;
+        List<RefreshTokenSession> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+        for(RefreshTokenSession session : pending.values()) {
+            batch.add(session);
+            if(batch.size() >= batchSize) {
+                flushed += write(batch);
+                batch.clear();
+            }
+        }
+        if(!batch.isEmpty()) flushed += write(batch);
+        return flushed;
+    }
+
+    private int write(List<RefreshTokenSession> batch) {
+        try {
+            writer.accept(batch);
+        } catch (DataIntegrityViolationException e) {
+            //batch 가 통째로 rollback 되므로 한 건씩 다시 저장하고 제약 조건에 걸리는 세션만 버림 (해당 기기는 다시 로그인)
+            int written = 0;
+            for(RefreshTokenSession session : batch) {
+                try {
+                    writer.accept(List.of(session));
+                    written++;
+                } catch (DataIntegrityViolationException rowFailure) {
+                    log.error("refreshToken 세션 저장 실패 (username={})", session.getUsername(), rowFailure);
+                }
+                pending.remove(ByteBuffer.wrap(session.getTokenHash()), session);
+            }
+            return written;
+        }
+        //그 외 실패 (DB 연결 등) 는 버퍼에 남아 다음 주기에 다시 시도
+        for(RefreshTokenSession session : batch) pending.remove(ByteBuffer.wrap(session.getTokenHash()), session);
+        return batch.size();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("refreshToken write-behind 저장 실패", e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.service;
+
+/**
+ * TokenStateStore 변경 알림 (near-cache 무효화)
+ * 저장소 구현에 따라 변경한 스레드 또는 별도 스레드에서 호출되므로 가볍게 처리해야 한다.
+ */
+public interface TokenStateListener {
+
+    /**
+     * refreshToken 이 교체 / 삭제되어 더 이상 쓸 수 없음
+     * @param tokenHash refreshToken digest
+     */
+    void refreshTokenInvalidated(byte[] tokenHash);
+
+    /**
+     * 아이디의 모든 refreshToken 삭제
+     * @param username 아이디
+     */
+    void refreshTokensInvalidated(String username);
+
+    /**
+     * accessToken 폐기
+     * @param tokenId jti
+     * @param expiresAt 토큰 만료 시각 (epoch millis)
+     */
+    void accessTokenRevoked(String tokenId, long expiresAt);
+}
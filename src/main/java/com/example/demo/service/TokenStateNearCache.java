@@ -0,0 +1,142 @@
+package com.example.demo.service;
+
+import com.example.demo.security.BoundedExpiryMap;
+import com.example.demo.security.RevokedTokenDenylist;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인스턴스별 토큰 상태 near-cache
+ * refreshToken 유효 여부는 처음 한번만 TokenStateStore 에서 읽고 이후에는 메모리에서 답한다.
+ * 다른 인스턴스가 교체 / 삭제한 토큰은 저장소 알림으로 tombstone 이 되어 저장소를 다시 읽지 않고 거절하고,
+ * 폐기된 accessToken 은 RevokedTokenDenylist 에 넣어 JwtFilter 가 메모리에서 확인한다.
+ * 저장소 조회와 알림이 엇갈려도 알림의 tombstone 을 조회 결과가 덮어쓰지 않는다. (putIfAbsent)
+ * 재발급 자체는 항상 저장소에서 원자적으로 교체하므로 캐시가 늦어도 같은 토큰이 두번 쓰이지는 않는다.
+ * 가득 차면 만료 / tombstone 항목, 그 다음 만료 시각이 이른 세션부터 지운다. (BoundedExpiryMap)
+ * 지운 항목은 다음 조회 때 저장소에서 다시 읽으므로 정확성에는 영향이 없다.
+ */
+@Component
+public class TokenStateNearCache implements TokenStateListener {
+
+    private final TokenStateStore tokenStateStore;
+    private final RevokedTokenDenylist revokedTokenDenylist;
+
+    private final BoundedExpiryMap<ByteBuffer, Entry> entries;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    public TokenStateNearCache(TokenStateStore tokenStateStore,
+                               RevokedTokenDenylist revokedTokenDenylist,
+                               @Value("${token-state.near-cache-max-size}") int maxSize) {
+        this.tokenStateStore = tokenStateStore;
+        this.revokedTokenDenylist = revokedTokenDenylist;
+        this.entries = new BoundedExpiryMap<>(maxSize, entry -> entry.expiresAt);
+    }
+
+    /**
+     * 저장소 알림 구독 후 아직 만료되지 않은 폐기 accessToken 을 불러옴 (다른 인스턴스가 먼저 받은 로그아웃)
+     */
+    @PostConstruct
+    protected void start() {
+        tokenStateStore.addListener(this);
+        tokenStateStore.forEachRevokedAccessToken(System.currentTimeMillis(), revokedTokenDenylist::revoke);
+    }
+
+    /**
+     * refreshToken 이 아직 재발급에 쓸 수 있는지 (교체 / 삭제 / 만료되지 않음)
+     * @param username 아이디
+     * @param tokenHash refreshToken digest
+     * @param now 현재 시각 (epoch millis)
+     */
+    public boolean isRefreshTokenLive(String username, byte[] tokenHash, long now) {
+        ByteBuffer key = ByteBuffer.wrap(tokenHash);
+        Entry entry = entries.get(key);
+        if(entry == null) {
+            missCount.increment();
+            Entry loaded = new Entry(username, tokenStateStore.findRefreshTokenExpiry(username, tokenHash));
+            entry = entries.tryPutIfAbsent(key, loaded, now);
+            if(entry == null) entry = loaded;
+        } else {
+            hitCount.increment();
+        }
+        return entry.isLive(username, now);
+    }
+
+    /**
+     * 이 인스턴스에서 발급 / 교체한 refreshToken 을 바로 반영 (저장소 알림을 기다리지 않음)
+     * @param username 아이디
+     * @param tokenHash 사용된 refreshToken digest (새로 로그인했으면 null)
+     * @param newTokenHash 새 refreshToken digest
+     * @param expiresAt 새 만료 시각 (epoch millis)
+     */
+    public void refreshTokenIssued(String username, byte[] tokenHash, byte[] newTokenHash, long expiresAt) {
+        if(tokenHash != null) refreshTokenInvalidated(tokenHash);
+        entries.tryPut(ByteBuffer.wrap(newTokenHash), new Entry(username, expiresAt), System.currentTimeMillis());
+    }
+
+    @Override
+    public void refreshTokenInvalidated(byte[] tokenHash) {
+        entries.put(ByteBuffer.wrap(tokenHash), Entry.TOMBSTONE);
+        invalidationCount.increment();
+    }
+
+    @Override
+    public void refreshTokensInvalidated(String username) {
+        entries.replaceAll((key, entry) -> username.equals(entry.username) ? Entry.TOMBSTONE : entry);
+        invalidationCount.increment();
+    }
+
+    @Override
+    public void accessTokenRevoked(String tokenId, long expiresAt) {
+        revokedTokenDenylist.revoke(tokenId, expiresAt);
+        invalidationCount.increment();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 캐시에 있는 만료 시각 (테스트용, 없으면 -1, tombstone 이면 0)
+     */
+    long peek(byte[] tokenHash) {
+        Entry entry = entries.get(ByteBuffer.wrap(tokenHash));
+        return entry == null ? -1 : entry.expiresAt;
+    }
+
+    /**
+     * 세션 상태 (expiresAt 0 은 저장소에 없거나 교체 / 삭제된 토큰)
+     */
+    private static class Entry {
+        private static final Entry TOMBSTONE = new Entry(null, 0);
+
+        private final String username;
+        private final long expiresAt;
+
+        private Entry(String username, long expiresAt) {
+            this.username = username;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isLive(String username, long now) {
+            return expiresAt > now && username.equals(this.username);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.demo.service;
+
+import java.util.function.ObjLongConsumer;
+
+/**
+ * 여러 인스턴스가 공유하는 토큰 상태 저장소 (refreshToken 세션, 폐기된 accessToken)
+ * 구현: JpaTokenStateStore (token-state.store=jpa), InMemoryTokenStateStore (memory, 네트워크 저장소 대용)
+ * 토큰 원본은 다루지 않고 SHA-256 digest (TokenDigest) 로만 저장 / 비교한다.
+ * 다른 인스턴스의 캐시가 무효화되어야 하는 변경 (교체 / 삭제 / 폐기) 은 등록된 TokenStateListener 에 알린다.
+ */
+public interface TokenStateStore {
+
+    /**
+     * 새 세션 저장 (로그인)
+     * @param username 아이디
+     * @param tokenHash refreshToken digest
+     * @param expiresAt 만료 시각 (epoch millis)
+     */
+    void saveRefreshToken(String username, byte[] tokenHash, long expiresAt);
+
+    /**
+     * 사용된 refreshToken 을 새 토큰으로 교체 (재발급, 한 토큰은 한번만 교체 가능)
+     * @param username 아이디
+     * @param tokenHash 사용된 refreshToken digest
+     * @param newTokenHash 새 refreshToken digest
+     * @param expiresAt 새 만료 시각 (epoch millis)
+     * @return 유효한 세션이 있어서 교체했으면 true
+     */
+    boolean rotateRefreshToken(String username, byte[] tokenHash, byte[] newTokenHash, long expiresAt);
+
+    /**
+     * 세션 만료 시각 조회 (near-cache 가 없을 때 읽음)
+     * @param username 아이디
+     * @param tokenHash refreshToken digest
+     * @return 만료 시각 (epoch millis), 세션이 없으면 0
+     */
+    long findRefreshTokenExpiry(String username, byte[] tokenHash);
+
+    /**
+     * 세션 하나 삭제 (해당 기기 로그아웃)
+     * @param username 아이디
+     * @param tokenHash refreshToken digest
+     */
+    void revokeRefreshToken(String username, byte[] tokenHash);
+
+    /**
+     * 아이디의 모든 세션 삭제 (모든 기기 로그아웃)
+     * @param username 아이디
+     */
+    void revokeRefreshTokens(String username);
+
+    /**
+     * accessToken 폐기 (로그아웃)
+     * @param tokenId jti
+     * @param expiresAt 토큰 만료 시각 (epoch millis, 이후에는 보관하지 않아도 됨)
+     */
+    void revokeAccessToken(String tokenId, long expiresAt);
+
+    /**
+     * 아직 만료되지 않은 폐기 accessToken (시작 시 near-cache 채우기)
+     * @param now 현재 시각 (epoch millis)
+     * @param consumer (jti, 만료 시각)
+     */
+    void forEachRevokedAccessToken(long now, ObjLongConsumer<String> consumer);
+
+    /**
+     * 변경 알림 등록 (모든 인스턴스의 변경을 받음, 자기 인스턴스의 변경 포함)
+     */
+    void addListener(TokenStateListener listener);
+}
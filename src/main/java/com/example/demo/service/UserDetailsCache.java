@@ -0,0 +1,123 @@
+package com.example.demo.service;
+
+import com.example.demo.security.BoundedExpiryMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 로그인 회원 정보(UserDetails) 캐시
+ * 같은 계정의 반복 로그인 / 비밀번호 재시도 때 회원 조회 쿼리를 건너뛴다.
+ * 회원 가입, 비밀번호 / 권한 변경 시 evict 로 무효화해야 한다.
+ * 가득 차면 만료 시각이 이른 (먼저 읽은) 항목부터 지운다. (BoundedExpiryMap)
+ */
+@Component
+public class UserDetailsCache {
+
+    private final boolean enabled;
+    private final long ttlMilliSeconds;
+
+    private final BoundedExpiryMap<String, Entry> entries;
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder totalLoadNanos = new LongAdder();
+
+    public UserDetailsCache(@Value("${login.user-cache-enabled}") boolean enabled,
+                            @Value("${login.user-cache-max-size}") int maxSize,
+                            @Value("${login.user-cache-ttl-seconds}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.ttlMilliSeconds = ttlSeconds * 1000;
+        this.entries = new BoundedExpiryMap<>(maxSize, entry -> entry.expiresAt);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader 로 읽어서 저장
+     * @param username 아이디
+     * @param loader 회원 조회 (MemberService.loadUserByUsername)
+     * @return 회원 정보
+     */
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        long now = System.currentTimeMillis();
+        if(enabled) {
+            Entry entry = entries.get(username);
+            if(entry != null && entry.expiresAt > now) {
+                hitCount.increment();
+                return entry.userDetails;
+            }
+            if(entry != null) entries.expire(username, entry);
+        }
+        missCount.increment();
+
+        long loadGeneration = generation.get();
+        long startedAt = System.nanoTime();
+        UserDetails userDetails = loader.apply(username);
+        loadCount.increment();
+        totalLoadNanos.add(System.nanoTime() - startedAt);
+
+        //조회 도중 무효화가 있었다면 오래된 값일 수 있으므로 저장하지 않음
+        if(enabled && generation.get() == loadGeneration && entries.tryPut(username, new Entry(userDetails, now + ttlMilliSeconds), now)) {
+            if(generation.get() != loadGeneration) entries.remove(username);
+        }
+        return userDetails;
+    }
+
+    /**
+     * 회원 정보 무효화 (회원 가입, 비밀번호 / 권한 변경)
+     * @param username 아이디
+     */
+    public void evict(String username) {
+        generation.incrementAndGet();
+        entries.remove(username);
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public double getHitRatio() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public long getEvictionCount() {
+        return entries.getEvictionCount();
+    }
+
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    public long getTotalLoadNanos() {
+        return totalLoadNanos.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static class Entry {
+        private final UserDetails userDetails;
+        private final long expiresAt;
+
+        private Entry(UserDetails userDetails, long expiresAt) {
+            this.userDetails = userDetails;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+-- 수동 migration 스크립트 (Flyway 등 도구 없음, ddl-auto=none 이라 Hibernate 도 스키마를 바꾸지 않음)
+-- 배포 전에 db/ 의 번호 순서대로 직접 실행한다.
+-- refreshToken 원본(refresh_token) 을 SHA-256 digest(refresh_token_hash) 로 교체 (MySQL)
+-- 1. 새 컬럼 추가 후 기존 토큰을 digest 로 옮김 (TokenDigest.sha256 과 같은 값: UTF-8 바이트의 SHA-256)
+--    배포 전에 실행하면 이미 로그인한 사용자도 재로그인 없이 재발급 가능
+alter table member add column refresh_token_hash binary(32) null;
+
+update member
+set refresh_token_hash = unhex(sha2(refresh_token, 256))
+where refresh_token is not null;
+
+-- 2. 새 버전 배포 후 원본 토큰 컬럼 삭제 (이전 버전으로 되돌릴 일이 없을 때)
+alter table member drop column refresh_token;
@@ -0,0 +1,29 @@
+-- 수동 migration (01_refresh_token_hash.sql 다음에 실행)
+-- 기기(로그인) 별 refreshToken 세션 테이블 (MySQL)
+create table refresh_token_session (
+    session_id bigint not null,
+    username varchar(255) not null,
+    token_hash binary(32) not null,
+    expires_at bigint not null,
+    created_at bigint not null,
+    primary key (session_id),
+    unique key ux_refresh_token_session_token_hash (token_hash),
+    key ix_refresh_token_session_username (username),
+    key ix_refresh_token_session_expires_at (expires_at)
+);
+
+-- session_id 할당용 (pooled-lo, 50개씩)
+create table refresh_token_session_seq (next_val bigint);
+insert into refresh_token_session_seq values (1);
+
+-- 기존 member.refresh_token_hash 를 세션으로 옮김
+-- 발급 시각을 알 수 없으므로 만료는 지금부터 JWT.refreshToken-valid-seconds (86400) 뒤로 둔다.
+insert into refresh_token_session (session_id, username, token_hash, expires_at, created_at)
+select member_id, username, refresh_token_hash,
+       unix_timestamp() * 1000 + 86400000, unix_timestamp() * 1000
+from member
+where refresh_token_hash is not null;
+
+update refresh_token_session_seq set next_val = (select coalesce(max(session_id), 0) + 1 from refresh_token_session);
+
+alter table member drop column refresh_token_hash;
@@ -0,0 +1,9 @@
+-- 수동 migration (02_refresh_token_session.sql 다음에 실행)
+-- 폐기된 accessToken 테이블 (MySQL)
+-- 인스턴스가 여러 대일 때 다른 인스턴스의 로그아웃을 시작 시 불러오기 위해 저장한다. (TokenStateStore)
+create table revoked_access_token (
+    token_id varchar(64) not null,
+    expires_at bigint not null,
+    primary key (token_id),
+    key ix_revoked_access_token_expires_at (expires_at)
+);
@@ -0,0 +1,15 @@
+-- 수동 migration (03_revoked_access_token.sql 다음에 실행)
+-- 인스턴스 사이 토큰 상태 변경 알림 테이블 (MySQL)
+-- 각 인스턴스가 event_id 순서로 읽어 near-cache 를 무효화하고, 보관 기간이 지난 행은 삭제한다. (JpaTokenStateStore)
+create table token_state_event (
+    event_id bigint not null auto_increment,
+    node_id varchar(36) not null,
+    event_type varchar(32) not null,
+    username varchar(255),
+    token_hash binary(32),
+    token_id varchar(64),
+    expires_at bigint not null,
+    created_at bigint not null,
+    primary key (event_id),
+    key ix_token_state_event_created_at (created_at)
+);
@@ -0,0 +1,23 @@
+package com.example.demo.reactive;
+
+import com.example.demo.security.SecurityError;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.server.authorization.ServerAccessDeniedHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveAccessDeniedHandler implements ServerAccessDeniedHandler {
+
+    private final ReactiveErrorResponseWriter errorResponseWriter;
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, AccessDeniedException accessDeniedException) {
+        return errorResponseWriter.write(exchange.getResponse(), SecurityError.ACCESS_DENIED);
+    }
+}
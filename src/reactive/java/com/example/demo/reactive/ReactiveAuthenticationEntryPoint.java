@@ -0,0 +1,23 @@
+package com.example.demo.reactive;
+
+import com.example.demo.security.SecurityError;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveAuthenticationEntryPoint implements ServerAuthenticationEntryPoint {
+
+    private final ReactiveErrorResponseWriter errorResponseWriter;
+
+    @Override
+    public Mono<Void> commence(ServerWebExchange exchange, AuthenticationException authenticationException) {
+        return errorResponseWriter.write(exchange.getResponse(), SecurityError.AUTHENTICATION_FAILED);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.demo.reactive;
+
+import com.example.demo.security.ErrorResponseWriter;
+import com.example.demo.security.SecurityError;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * jwt 예외처리 응답 (reactive)
+ * ErrorResponseWriter 가 미리 만들어 둔 바이트를 그대로 감싸서 쓴다.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveErrorResponseWriter {
+
+    private static final MediaType CONTENT_TYPE = new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8);
+
+    private final ErrorResponseWriter errorResponseWriter;
+
+    /**
+     * 에러 응답 쓰기
+     * @param response ServerHttpResponse
+     * @param error 응답할 에러
+     * @return 쓰기 완료 signal
+     */
+    public Mono<Void> write(ServerHttpResponse response, SecurityError error) {
+        byte[] body = errorResponseWriter.body(error);
+        response.setStatusCode(error.getStatus());
+        response.getHeaders().setContentType(CONTENT_TYPE);
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.demo.reactive;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * fast-startup profile 에서 reactive 로그인 controller 도 시작할 때 만듦 (FastStartupConfig 의 reactive 버전)
+ */
+@Configuration
+@Profile("fast-startup")
+public class ReactiveFastStartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter reactiveLoginPathEagerInitialization() {
+        return LazyInitializationExcludeFilter.forBeanTypes(ReactiveMemberController.class);
+    }
+}
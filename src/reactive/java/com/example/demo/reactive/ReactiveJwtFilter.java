@@ -0,0 +1,98 @@
+package com.example.demo.reactive;
+
+import com.example.demo.exception.RevokedTokenException;
+import com.example.demo.exception.TokenNotFoundException;
+import com.example.demo.metrics.AuthMetrics;
+import com.example.demo.metrics.AuthMetrics.FilterOutcome;
+import com.example.demo.security.JwtFilter;
+import com.example.demo.security.JwtProvider;
+import com.example.demo.security.RevokedTokenDenylist;
+import com.example.demo.security.SecurityError;
+import com.example.demo.security.SecurityEventLog;
+import com.example.demo.security.SecurityEventType;
+import com.example.demo.security.VerifiedToken;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+/**
+ * JwtFilter 의 reactive 버전
+ * 토큰 검증은 CPU 작업뿐이므로 event-loop 스레드에서 바로 처리하고
+ * 인증 정보는 SecurityContext 대신 Reactor Context 로 넘긴다.
+ */
+@RequiredArgsConstructor
+public class ReactiveJwtFilter implements WebFilter {
+
+    //servlet 모드의 WebSecurity.ignoring() 과 같은 경로
+    private static final Set<String> IGNORED_PATHS = Set.of("/api/login", "/api/refreshToken");
+
+    private final JwtProvider jwtProvider;
+    private final ReactiveErrorResponseWriter errorResponseWriter;
+    private final RevokedTokenDenylist revokedTokenDenylist;
+    private final AuthMetrics authMetrics;
+    private final SecurityEventLog securityEventLog;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if(IGNORED_PATHS.contains(exchange.getRequest().getPath().pathWithinApplication().value()))
+            return chain.filter(exchange);
+
+        long startedAt = System.nanoTime();
+        VerifiedToken verifiedToken;
+        String token = null;
+        try {
+            token = resolveToken(exchange.getRequest());
+            if(!StringUtils.hasText(token)) throw new TokenNotFoundException("토큰을 찾을 수 없습니다.");
+
+            verifiedToken = jwtProvider.verify(token);
+            if(revokedTokenDenylist.isRevoked(verifiedToken.getTokenId(), verifiedToken.getExpiration()))
+                throw new RevokedTokenException("로그아웃된 토큰입니다.");
+        } catch (TokenNotFoundException e) {
+            return reject(exchange, token, SecurityError.TOKEN_NOT_FOUND, FilterOutcome.TOKEN_NOT_FOUND, startedAt);
+        } catch (MalformedJwtException e) {
+            return reject(exchange, token, SecurityError.MALFORMED_TOKEN, FilterOutcome.MALFORMED, startedAt);
+        } catch (ExpiredJwtException e) {
+            return reject(exchange, token, SecurityError.EXPIRED_TOKEN, FilterOutcome.EXPIRED, startedAt);
+        } catch (UnsupportedJwtException e) {
+            return reject(exchange, token, SecurityError.UNSUPPORTED_TOKEN, FilterOutcome.UNSUPPORTED, startedAt);
+        } catch (SignatureException e) {
+            return reject(exchange, token, SecurityError.INVALID_SIGNATURE, FilterOutcome.SIGNATURE, startedAt);
+        } catch (RevokedTokenException e) {
+            return reject(exchange, token, SecurityError.REVOKED_TOKEN, FilterOutcome.REVOKED, startedAt);
+        }
+
+        authMetrics.recordFilter(FilterOutcome.OK, startedAt);
+        securityEventLog.record(SecurityEventType.ACCESS_GRANTED, verifiedToken.getSubject(), verifiedToken.getTokenId(), null, exchange.getRequest().getRemoteAddress());
+        return chain.filter(exchange)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(verifiedToken.getAuthentication()));
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, String token, SecurityError error, FilterOutcome outcome, long startedAt) {
+        authMetrics.recordFilter(outcome, startedAt);
+        securityEventLog.record(SecurityEventType.of(error), null, null, token, exchange.getRequest().getRemoteAddress());
+        return errorResponseWriter.write(exchange.getResponse(), error);
+    }
+
+    /**
+     * 헤더 token 추출
+     * @param request ServerHttpRequest
+     * @return 헤더 토큰 추출 값
+     */
+    private String resolveToken(ServerHttpRequest request) {
+        String bearerToken = request.getHeaders().getFirst(JwtFilter.AUTHORIZATION_HEADER);
+        if(StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer "))
+            return bearerToken.substring(7);
+        return null;
+    }
+}
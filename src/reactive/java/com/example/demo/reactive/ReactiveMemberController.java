@@ -0,0 +1,139 @@
+package com.example.demo.reactive;
+
+import com.example.demo.domain.MemberForm;
+import com.example.demo.dto.LoginDTO;
+import com.example.demo.dto.RefreshTokenDTO;
+import com.example.demo.dto.response.Response;
+import com.example.demo.security.ClientAddressResolver;
+import com.example.demo.security.LoginRateLimiter;
+import com.example.demo.security.VerifiedToken;
+import com.example.demo.service.LoginService;
+import com.example.demo.service.MemberService;
+import com.example.demo.service.RefreshTokenCoordinator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+/**
+ * MemberController 의 reactive 버전
+ * DB 작업은 blockingScheduler 로 넘겨 event-loop 스레드를 막지 않는다.
+ * 로그인 / 회원가입의 BCrypt 와 그 다음 저장은 PasswordHashingExecutor / LoginIoExecutor 에서 실행된다. (로그인 회원 조회만 blockingScheduler)
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@CrossOrigin(value = "*", maxAge = 3600)
+@RequestMapping("/api")
+public class ReactiveMemberController {
+
+    private final MemberService memberService;
+    private final LoginService loginService;
+    private final RefreshTokenCoordinator refreshTokenCoordinator;
+    private final Scheduler blockingScheduler;
+    private final LoginRateLimiter loginRateLimiter;
+    private final ClientAddressResolver clientAddressResolver;
+
+    /**
+     * 회원 가입
+     * @param form 회원가입 form
+     * @return json response
+     */
+    @PostMapping("/members")
+    public Mono<ResponseEntity> signUp(@RequestBody MemberForm form) {
+        return Mono.defer(() -> Mono.fromFuture(memberService.signUp(form)))
+                .then(Mono.fromSupplier(() -> ResponseEntity.status(HttpStatus.CREATED).body(Response.builder()
+                        .status(HttpStatus.CREATED.value())
+                        .message("회원 가입 성공").build())));
+    }
+
+    /**
+     * 로그인 (IP / 아이디 별 요청 제한 후 비밀번호 검증)
+     * @param loginDTO 로그인 요청 dto
+     * @param request 요청 IP 확인용
+     * @return json response
+     */
+    @PostMapping("/login")
+    public Mono<ResponseEntity> login(@RequestBody LoginDTO loginDTO, ServerHttpRequest request) {
+        return Mono.defer(() -> {
+            String clientIp = clientIp(request);
+            loginRateLimiter.checkLogin(clientIp, loginDTO.getUsername());
+            return Mono.fromFuture(loginService.login(loginDTO, clientIp));
+        }).subscribeOn(blockingScheduler).map(ResponseEntity::ok);
+    }
+
+    /**
+     * refreshToken으로 accessToken 재발급
+     * @param refreshTokenDTO accessToken 재발급 요청 DTO
+     * @param request 요청 IP 확인용
+     * @return json response
+     */
+    @PostMapping("/refreshToken")
+    public Mono<ResponseEntity> refreshToken(@RequestBody RefreshTokenDTO refreshTokenDTO, ServerHttpRequest request) {
+        return Mono.defer(() -> {
+            String clientIp = clientIp(request);
+            loginRateLimiter.checkRefresh(clientIp);
+            return Mono.<ResponseEntity>fromCallable(() -> ResponseEntity.ok(refreshTokenCoordinator.refresh(refreshTokenDTO, clientIp)))
+                    .subscribeOn(blockingScheduler);
+        });
+    }
+
+    /**
+     * 로그아웃 (요청에 사용된 accessToken 폐기, refreshToken 세션 삭제)
+     * @param refreshTokenDTO 로그아웃할 기기의 refreshToken (body 가 없으면 모든 기기 로그아웃)
+     * @param request 요청 IP 확인용
+     * @return json response
+     */
+    @PostMapping("/logout")
+    public Mono<ResponseEntity> logout(@RequestBody(required = false) RefreshTokenDTO refreshTokenDTO, ServerHttpRequest request) {
+        String refreshToken = refreshTokenDTO == null ? null : refreshTokenDTO.getRefreshToken();
+        String clientIp = clientIp(request);
+        return ReactiveSecurityContextHolder.getContext()
+                .publishOn(blockingScheduler)
+                .map(context -> {
+                    memberService.logout((VerifiedToken) context.getAuthentication().getDetails(), refreshToken, clientIp);
+
+                    Response response = Response.builder()
+                            .status(HttpStatus.OK.value())
+                            .message("로그아웃 성공")
+                            .build();
+                    return ResponseEntity.ok(response);
+                });
+    }
+
+    /**
+     * 테스트
+     * @return json response
+     */
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @GetMapping("/test")
+    public Mono<ResponseEntity> test() {
+        Response response = Response.builder()
+                .status(HttpStatus.OK.value())
+                .message("테스트 성공")
+                .build();
+        return Mono.just(ResponseEntity.ok(response));
+    }
+
+    private String clientIp(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        String remoteIp = remoteAddress == null ? null
+                : remoteAddress.getAddress() != null ? remoteAddress.getAddress().getHostAddress() : remoteAddress.getHostString();
+        List<String> forwardedFor = request.getHeaders().get(ClientAddressResolver.FORWARDED_FOR);
+        return clientAddressResolver.resolve(remoteIp, forwardedFor == null || forwardedFor.isEmpty() ? null : String.join(",", forwardedFor));
+    }
+}
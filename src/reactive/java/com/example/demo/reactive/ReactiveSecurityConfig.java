@@ -0,0 +1,67 @@
+package com.example.demo.reactive;
+
+import com.example.demo.metrics.AuthMetrics;
+import com.example.demo.security.JwtProvider;
+import com.example.demo.security.RevokedTokenDenylist;
+import com.example.demo.security.SecurityEventLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * reactive 모드 보안 설정 (spring.main.web-application-type=reactive, reactive profile)
+ * servlet 모드의 SecurityConfig 와 같은 동작: 세션 없음, login / refreshToken 외에는 JwtFilter 통과 필요, 권한은 @PreAuthorize
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableWebFluxSecurity
+@EnableReactiveMethodSecurity
+@RequiredArgsConstructor
+public class ReactiveSecurityConfig {
+
+    private final JwtProvider jwtProvider;
+    private final ReactiveErrorResponseWriter errorResponseWriter;
+    private final ReactiveAuthenticationEntryPoint authenticationEntryPoint;
+    private final ReactiveAccessDeniedHandler accessDeniedHandler;
+    private final RevokedTokenDenylist revokedTokenDenylist;
+    private final AuthMetrics authMetrics;
+    private final SecurityEventLog securityEventLog;
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+                .httpBasic().disable()
+                .formLogin().disable()
+                .csrf().disable()
+                .logout().disable()
+                // create no session
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .addFilterAt(new ReactiveJwtFilter(jwtProvider, errorResponseWriter, revokedTokenDenylist, authMetrics, securityEventLog), SecurityWebFiltersOrder.AUTHENTICATION)
+                .exceptionHandling()
+                .accessDeniedHandler(accessDeniedHandler)
+                .authenticationEntryPoint(authenticationEntryPoint)
+                .and()
+                .authorizeExchange().anyExchange().permitAll()
+                .and()
+                .build();
+    }
+
+    /**
+     * DB 조회 / 저장 같은 blocking 작업용 scheduler (event-loop 스레드를 막지 않도록 분리)
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler blockingScheduler(@Value("${reactive.blocking-threads}") int threads,
+                                       @Value("${reactive.blocking-queue-capacity}") int queueCapacity) {
+        return Schedulers.newBoundedElastic(threads, queueCapacity, "auth-blocking");
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.reactive;
+
+import com.example.demo.dto.response.ResponseJsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveWebConfig implements WebFluxConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    //특정 타입만 쓰는 custom encoder 는 기본 Jackson encoder 보다 먼저 검사됨
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        configurer.customCodecs().register(new ResponseJsonEncoder(new ResponseJsonWriter(objectMapper.getFactory())));
+    }
+}
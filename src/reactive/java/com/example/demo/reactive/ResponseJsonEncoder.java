@@ -0,0 +1,65 @@
+package com.example.demo.reactive;
+
+import com.example.demo.dto.response.ResponseJsonWriter;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LoginResponse / Response 응답을 ResponseJsonWriter 로 바로 쓰는 encoder (reactive)
+ * 기본 Jackson encoder 보다 앞에 등록한다. (ReactiveWebConfig)
+ */
+public class ResponseJsonEncoder implements Encoder<Object> {
+
+    private static final List<MimeType> MIME_TYPES = List.of(MediaType.APPLICATION_JSON);
+
+    private final ResponseJsonWriter responseJsonWriter;
+
+    public ResponseJsonEncoder(ResponseJsonWriter responseJsonWriter) {
+        this.responseJsonWriter = responseJsonWriter;
+    }
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+        return ResponseJsonWriter.supports(elementType.toClass())
+                && (mimeType == null || MediaType.APPLICATION_JSON.isCompatibleWith(mimeType));
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory, ResolvableType elementType,
+                                   MimeType mimeType, Map<String, Object> hints) {
+        return Flux.from(inputStream).map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints));
+    }
+
+    @Override
+    public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType,
+                                  MimeType mimeType, Map<String, Object> hints) {
+        DataBuffer buffer = bufferFactory.allocateBuffer();
+        boolean release = true;
+        try {
+            responseJsonWriter.write(value, buffer.asOutputStream());
+            release = false;
+            return buffer;
+        } catch (IOException e) {
+            throw new EncodingException("JSON 응답을 쓸 수 없습니다.", e);
+        } finally {
+            if(release) DataBufferUtils.release(buffer);
+        }
+    }
+
+    @Override
+    public List<MimeType> getEncodableMimeTypes() {
+        return MIME_TYPES;
+    }
+}
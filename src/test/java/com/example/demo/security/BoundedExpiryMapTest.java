@@ -0,0 +1,77 @@
+package com.example.demo.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 가득 찼을 때 만료된 항목, 그 다음 만료 시각이 이른 항목부터 지우는지 확인 (값이 곧 만료 시각)
+ */
+class BoundedExpiryMapTest {
+
+    private static final long NOW = 1_000_000;
+
+    @Test
+    void expiredEntriesAreEvictedFirst() {
+        BoundedExpiryMap<String, Long> map = new BoundedExpiryMap<>(10, Long::longValue);
+        for(int i = 0; i < 5; i++) map.tryPut("expired-" + i, NOW - 1, NOW);
+        for(int i = 0; i < 5; i++) map.tryPut("live-" + i, NOW + 1000 + i, NOW);
+
+        assertTrue(map.tryPut("new", NOW + 5000, NOW));
+
+        assertEquals(6, map.size());
+        assertEquals(5, map.getEvictionCount());
+        for(int i = 0; i < 5; i++) assertNotNull(map.get("live-" + i));
+    }
+
+    @Test
+    void earliestExpiringEntriesAreEvictedWhenFull() {
+        BoundedExpiryMap<String, Long> map = new BoundedExpiryMap<>(100, Long::longValue);
+        //저장 순서와 만료 순서를 다르게 (map 순회 순서로 지우면 통과하지 못함)
+        for(int i = 99; i >= 0; i--) map.tryPut("key-" + i, NOW + 1000 + i, NOW);
+
+        assertTrue(map.tryPut("new", NOW + 5000, NOW));
+
+        //90 개까지 줄인 뒤 새 항목 추가
+        assertEquals(91, map.size());
+        for(int i = 0; i < 10; i++) assertNull(map.get("key-" + i), "key-" + i);
+        for(int i = 10; i < 100; i++) assertNotNull(map.get("key-" + i), "key-" + i);
+        assertNotNull(map.get("new"));
+    }
+
+    @Test
+    void putIfAbsentKeepsExistingEntry() {
+        BoundedExpiryMap<String, Long> map = new BoundedExpiryMap<>(10, Long::longValue);
+        map.put("key", 0L);
+
+        assertEquals(0L, map.tryPutIfAbsent("key", NOW + 1000, NOW));
+        assertNull(map.tryPutIfAbsent("other", NOW + 1000, NOW));
+        assertEquals(NOW + 1000, map.get("other"));
+    }
+
+    @Test
+    void forcedPutIgnoresBound() {
+        BoundedExpiryMap<String, Long> map = new BoundedExpiryMap<>(1, Long::longValue);
+        map.tryPut("live", NOW + 1000, NOW);
+
+        map.put("tombstone", 0L);
+
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void expireRemovesOnlyUnchangedEntry() {
+        BoundedExpiryMap<String, Long> map = new BoundedExpiryMap<>(10, Long::longValue);
+        Long stale = NOW - 1;
+        map.put("key", stale);
+        map.put("key", NOW + 1000);
+
+        assertFalse(map.expire("key", stale));
+        assertTrue(map.expire("key", map.get("key")));
+        assertEquals(1, map.getEvictionCount());
+    }
+}
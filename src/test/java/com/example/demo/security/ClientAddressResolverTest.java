@@ -0,0 +1,59 @@
+package com.example.demo.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * X-Forwarded-For 를 오른쪽부터 읽어 신뢰하는 proxy 가 아닌 첫 주소를 쓰는지 확인
+ */
+class ClientAddressResolverTest {
+
+    private final ClientAddressResolver resolver = new ClientAddressResolver("10.0.0.0/8, 192.168.1.1, fd00::/8");
+
+    @Test
+    void headerIsIgnoredWithoutTrustedProxies() {
+        ClientAddressResolver direct = new ClientAddressResolver("");
+
+        assertEquals("10.0.0.1", direct.resolve("10.0.0.1", "1.2.3.4"));
+    }
+
+    @Test
+    void headerFromUntrustedRemoteIsIgnored() {
+        assertEquals("203.0.113.9", resolver.resolve("203.0.113.9", "1.2.3.4"));
+        assertEquals("10.0.0.1", resolver.resolve("10.0.0.1", null));
+    }
+
+    @Test
+    void rightmostUntrustedHopIsClient() {
+        assertEquals("203.0.113.9", resolver.resolve("10.0.0.1", "203.0.113.9"));
+        //여러 proxy 를 거친 경우
+        assertEquals("203.0.113.9", resolver.resolve("10.0.0.1", "203.0.113.9, 192.168.1.1, 10.0.0.2"));
+        assertEquals("2001:db8::1", resolver.resolve("fd00::1", "2001:db8::1, fd00::2"));
+    }
+
+    @Test
+    void spoofedLeftHopsAreIgnored() {
+        //클라이언트가 보낸 값 (왼쪽) 은 proxy 가 붙인 실제 주소보다 앞에 있으므로 읽지 않음
+        assertEquals("203.0.113.9", resolver.resolve("10.0.0.1", "6.6.6.6, 10.0.0.5, 203.0.113.9"));
+    }
+
+    @Test
+    void allTrustedHopsResolveToLeftmost() {
+        assertEquals("10.0.0.3", resolver.resolve("10.0.0.1", "10.0.0.3, 10.0.0.2"));
+    }
+
+    @Test
+    void emptyHopsAreSkipped() {
+        assertEquals("203.0.113.9", resolver.resolve("10.0.0.1", "203.0.113.9, , 10.0.0.2,"));
+        assertEquals("10.0.0.1", resolver.resolve("10.0.0.1", " "));
+    }
+
+    @Test
+    void invalidHopStopsAtLastTrustedHop() {
+        assertEquals("10.0.0.2", resolver.resolve("10.0.0.1", "203.0.113.9, unknown, 10.0.0.2"));
+        assertEquals("10.0.0.1", resolver.resolve("10.0.0.1", "999.1.1.1"));
+        assertEquals("10.0.0.1", resolver.resolve("10.0.0.1", "example.com"));
+        assertEquals("10.0.0.1", resolver.resolve("10.0.0.1", "1:2:3:4:5:6:7:8:9"));
+    }
+}
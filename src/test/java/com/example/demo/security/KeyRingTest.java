@@ -0,0 +1,128 @@
+package com.example.demo.security;
+
+import com.example.demo.metrics.AuthMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 자동 교체된 키를 재시작한 인스턴스 / 다른 인스턴스가 같은 secretkey 로 다시 만들 수 있는지 확인
+ */
+class KeyRingTest {
+
+    private static final String SECRET = "SeCrEtKeYR4e3o1W1o2nY3oun4gju13n";
+    private static final long INTERVAL_SECONDS = 3600;
+    private static final long INTERVAL_MILLIS = INTERVAL_SECONDS * 1000;
+
+    private final List<KeyRing> started = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        started.forEach(KeyRing::shutdown);
+    }
+
+    @Test
+    void instancesRotateToSameKey() {
+        KeyRing nodeA = start(SECRET);
+        KeyRing nodeB = start(SECRET);
+
+        assertEquals(epochKid(currentEpoch()), nodeA.getSigningKey().getKid());
+        assertEquals(nodeA.getSigningKey().getKid(), nodeB.getSigningKey().getKid());
+        assertArrayEquals(nodeA.getSigningKey().getKey().getEncoded(), nodeB.getSigningKey().getKey().getEncoded());
+    }
+
+    @Test
+    void restartedInstanceVerifiesTokenSignedBeforeRestart() {
+        KeyRing before = start(SECRET);
+        String token = provider(before).generateToken(new UsernamePasswordAuthenticationToken("youngjun", "",
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))), false);
+        before.shutdown();
+
+        KeyRing restarted = start(SECRET);
+        assertEquals("youngjun", new Hs256TokenVerifier(restarted).verify(token).getSubject());
+        assertEquals("youngjun", new JjwtTokenVerifier(restarted).verify(token).getSubject());
+    }
+
+    @Test
+    void previousEpochKeyIsDerivedOnDemand() {
+        KeyRing nodeA = start(SECRET);
+        KeyRing nodeB = start(SECRET);
+        String previousKid = epochKid(currentEpoch() - INTERVAL_MILLIS);
+
+        SigningKey derived = nodeB.get(previousKid);
+
+        assertNotNull(derived);
+        assertArrayEquals(nodeA.get(previousKid).getKey().getEncoded(), derived.getKey().getEncoded());
+        assertNotEquals(nodeB.getSigningKey().getKid(), previousKid);
+    }
+
+    @Test
+    void otherSecretDerivesDifferentKey() {
+        KeyRing nodeA = start(SECRET);
+        KeyRing other = start("AnOtHeRsEcReTkEyFoRtHeCoNfOrMaNcE");
+
+        assertEquals(nodeA.getSigningKey().getKid(), other.getSigningKey().getKid());
+        assertNotEquals(new String(nodeA.getSigningKey().getKey().getEncoded()),
+                new String(other.getSigningKey().getKey().getEncoded()));
+    }
+
+    @Test
+    void kidsOutsideRotationScheduleAreNotDerived() {
+        KeyRing keyRing = start(SECRET);
+        int size = keyRing.size();
+
+        //주기 경계가 아님
+        assertNull(keyRing.get(epochKid(currentEpoch() + 1)));
+        //overlap (refreshToken 유효 시간) 보다 오래됨
+        assertNull(keyRing.get(epochKid(currentEpoch() - 30 * INTERVAL_MILLIS)));
+        //너무 먼 미래
+        assertNull(keyRing.get(epochKid(currentEpoch() + 2 * INTERVAL_MILLIS)));
+        //형식이 다름
+        assertNull(keyRing.get(epochKid(currentEpoch()) + "-1"));
+        assertNull(keyRing.get("not-a-kid"));
+        assertEquals(size, keyRing.size());
+    }
+
+    @Test
+    void manualRotationWithoutScheduleIsNotDerived() {
+        KeyRing nodeA = new KeyRing(SECRET, "", KeyRing.DEFAULT_KID, 0, 86400);
+        KeyRing nodeB = new KeyRing(SECRET, "", KeyRing.DEFAULT_KID, 0, 86400);
+
+        assertNull(nodeB.get(nodeA.rotate().getKid()));
+    }
+
+    private KeyRing start(String secret) {
+        //refreshToken 유효 시간 하루, 교체 주기 1시간
+        KeyRing keyRing = new KeyRing(secret, "", KeyRing.DEFAULT_KID, INTERVAL_SECONDS, 86400);
+        keyRing.start();
+        started.add(keyRing);
+        return keyRing;
+    }
+
+    private static JwtProvider provider(KeyRing keyRing) {
+        JwtProvider provider = new JwtProvider(keyRing, 60, 86400, "jjwt", "bitmask",
+                new TokenAuthenticationCache(false, 0, 0), new AuthMetrics());
+        provider.init();
+        return provider;
+    }
+
+    private static long currentEpoch() {
+        long now = System.currentTimeMillis();
+        return now - now % INTERVAL_MILLIS;
+    }
+
+    private static String epochKid(long epoch) {
+        return "k" + Long.toString(epoch, 36);
+    }
+}
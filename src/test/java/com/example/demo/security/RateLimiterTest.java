@@ -0,0 +1,97 @@
+package com.example.demo.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * burst / 재충전 / key 상한 확인 (시각은 직접 움직임)
+ */
+class RateLimiterTest {
+
+    //분당 60번 = 1초에 1번
+    private static final long INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    @Test
+    void burstIsAllowedThenRejected() {
+        RateLimiter rateLimiter = new RateLimiter(60, 3, 100, now::get);
+
+        for(int i = 0; i < 3; i++) assertEquals(0, rateLimiter.tryAcquire("1.2.3.4"));
+        long wait = rateLimiter.tryAcquire("1.2.3.4");
+
+        assertTrue(wait > 0 && wait <= INTERVAL_NANOS, "wait=" + wait);
+        //다른 key 는 영향 없음
+        assertEquals(0, rateLimiter.tryAcquire("5.6.7.8"));
+    }
+
+    @Test
+    void refillsOnePermitPerInterval() {
+        RateLimiter rateLimiter = new RateLimiter(60, 2, 100, now::get);
+        rateLimiter.tryAcquire("key");
+        rateLimiter.tryAcquire("key");
+        long wait = rateLimiter.tryAcquire("key");
+        assertTrue(wait > 0);
+
+        now.addAndGet(wait - 1);
+        assertTrue(rateLimiter.tryAcquire("key") > 0);
+
+        now.addAndGet(1);
+        assertEquals(0, rateLimiter.tryAcquire("key"));
+        assertTrue(rateLimiter.tryAcquire("key") > 0);
+    }
+
+    @Test
+    void idleKeyRefillsUpToBurstOnly() {
+        RateLimiter rateLimiter = new RateLimiter(60, 2, 100, now::get);
+        rateLimiter.tryAcquire("key");
+
+        //오래 쉬어도 burst 이상은 쌓이지 않음
+        now.addAndGet(10 * INTERVAL_NANOS);
+
+        assertEquals(0, rateLimiter.tryAcquire("key"));
+        assertEquals(0, rateLimiter.tryAcquire("key"));
+        assertTrue(rateLimiter.tryAcquire("key") > 0);
+    }
+
+    @Test
+    void oldestKeyIsEvictedAtMaxKeys() {
+        RateLimiter rateLimiter = new RateLimiter(60, 1, 2, now::get);
+        rateLimiter.tryAcquire("a");
+        rateLimiter.tryAcquire("b");
+        assertTrue(rateLimiter.tryAcquire("a") > 0);
+
+        rateLimiter.tryAcquire("c");
+
+        assertEquals(2, rateLimiter.size());
+        //가장 먼저 들어온 a 가 제거되어 다시 허용되고, b 는 남아 있음
+        assertTrue(rateLimiter.tryAcquire("b") > 0);
+        assertEquals(0, rateLimiter.tryAcquire("a"));
+        assertEquals(2, rateLimiter.size());
+    }
+
+    @Test
+    void refilledKeysAreSweptAfterAMinute() {
+        RateLimiter rateLimiter = new RateLimiter(60, 1, 100, now::get);
+        for(int i = 0; i < 10; i++) rateLimiter.tryAcquire("key-" + i);
+        assertEquals(10, rateLimiter.size());
+
+        now.addAndGet(TimeUnit.MINUTES.toNanos(1) + 1);
+        rateLimiter.tryAcquire("other");
+
+        assertEquals(1, rateLimiter.size());
+    }
+
+    @Test
+    void zeroPermitsIsUnlimited() {
+        RateLimiter rateLimiter = new RateLimiter(0, 1, 1, now::get);
+
+        for(int i = 0; i < 1000; i++) assertEquals(0, rateLimiter.tryAcquire("key-" + i));
+        assertEquals(0, rateLimiter.size());
+    }
+}
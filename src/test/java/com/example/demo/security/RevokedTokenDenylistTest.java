@@ -0,0 +1,117 @@
+package com.example.demo.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 폐기한 jti 만 폐기로 판단하는지 확인 (Bloom filter 양성은 jti 집합으로 걸러냄)
+ * accessToken 유효 60초, 구간 10초
+ */
+class RevokedTokenDenylistTest {
+
+    private static final long VALID_MILLIS = TimeUnit.SECONDS.toMillis(60);
+
+    @Test
+    void revokedTokenIsRejectedOthersAreNot() {
+        RevokedTokenDenylist denylist = new RevokedTokenDenylist(60, 10, 1000);
+        long expiration = System.currentTimeMillis() + VALID_MILLIS / 2;
+
+        denylist.revoke("jti-1", expiration);
+
+        assertTrue(denylist.isRevoked("jti-1", expiration));
+        assertFalse(denylist.isRevoked("jti-2", expiration));
+        assertFalse(denylist.isRevoked(null, expiration));
+    }
+
+    @Test
+    void revokingTwiceCountsOnce() {
+        RevokedTokenDenylist denylist = new RevokedTokenDenylist(60, 10, 1000);
+        long expiration = System.currentTimeMillis() + VALID_MILLIS / 2;
+
+        denylist.revoke("jti-1", expiration);
+        denylist.revoke("jti-1", expiration);
+
+        assertEquals(1, denylist.getRevokedCount());
+    }
+
+    @Test
+    void expiredOrAnonymousTokensAreNotStored() {
+        RevokedTokenDenylist denylist = new RevokedTokenDenylist(60, 10, 1000);
+        long expired = System.currentTimeMillis() - 1;
+
+        denylist.revoke("jti-1", expired);
+        denylist.revoke(null, expired + VALID_MILLIS);
+
+        assertFalse(denylist.isRevoked("jti-1", expired));
+        assertEquals(0, denylist.getRevokedCount());
+    }
+
+    @Test
+    void tokenOutlivingValidTimeIsKeptInOverflow() {
+        //설정된 유효 시간보다 늦게 만료되는 토큰도 폐기 (설정을 줄이기 전에 발급된 토큰)
+        RevokedTokenDenylist denylist = new RevokedTokenDenylist(60, 10, 1000);
+        long expiration = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1);
+
+        denylist.revoke("jti-long", expiration);
+
+        assertTrue(denylist.isRevoked("jti-long", expiration));
+        assertFalse(denylist.isRevoked("jti-other", expiration));
+        assertEquals(1, denylist.getRevokedCount());
+    }
+
+    @Test
+    void falsePositivesAreFilteredByExactSet() {
+        RevokedTokenDenylist denylist = new RevokedTokenDenylist(60, 10, 1000);
+        long expiration = System.currentTimeMillis() + VALID_MILLIS / 2;
+        for(int i = 0; i < 1000; i++) denylist.revoke("revoked-" + i, expiration);
+
+        int checks = 100_000;
+        for(int i = 0; i < checks; i++) assertFalse(denylist.isRevoked("live-" + i, expiration));
+        for(int i = 0; i < 1000; i++) assertTrue(denylist.isRevoked("revoked-" + i, expiration));
+
+        //구간당 예상 건수 기준 약 1%
+        double falsePositiveRate = (double) denylist.getFalsePositiveCount() / checks;
+        assertTrue(falsePositiveRate < 0.03, "false positive rate " + falsePositiveRate);
+    }
+
+    @Test
+    void concurrentRevocationsAreAllKept() throws Exception {
+        RevokedTokenDenylist denylist = new RevokedTokenDenylist(60, 10, 10_000);
+        long expiration = System.currentTimeMillis() + VALID_MILLIS / 2;
+        int threads = 8;
+        int perThread = 1000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for(int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for(int i = 0; i < perThread; i++) denylist.revoke("jti-" + thread + "-" + i, expiration);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for(Future<?> future : futures) future.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * perThread, denylist.getRevokedCount());
+        for(int t = 0; t < threads; t++)
+            for(int i = 0; i < perThread; i++) assertTrue(denylist.isRevoked("jti-" + t + "-" + i, expiration));
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.demo.security;
+
+import com.example.demo.dto.response.IntrospectionResponse;
+import com.example.demo.metrics.AuthMetrics;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 잘못된 토큰이 batch 전체를 실패시키지 않고 해당 토큰만 active=false 가 되는지 확인
+ */
+class TokenIntrospectorTest {
+
+    private static final String SECRET = "SeCrEtKeYR4e3o1W1o2nY3oun4gju13n";
+
+    private JwtProvider jwtProvider;
+    private TokenIntrospector introspector;
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = new JwtProvider(new KeyRing(SECRET, "", KeyRing.DEFAULT_KID, 0, 86400),
+                60, 86400, "jjwt", "bitmask",
+                new TokenAuthenticationCache(false, 0, 0), new AuthMetrics());
+        jwtProvider.init();
+        introspector = new TokenIntrospector(jwtProvider, new RevokedTokenDenylist(60, 10, 1000), 1000, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        introspector.shutdown();
+    }
+
+    @Test
+    void nonBase64TokenFailsOnlyItself() {
+        String valid = validToken();
+
+        List<IntrospectionResponse> results = introspector.introspect(Arrays.asList(valid, "a$b.c.d", valid));
+
+        assertTrue(results.get(0).isActive());
+        assertFalse(results.get(1).isActive());
+        assertEquals(SecurityError.MALFORMED_TOKEN.name(), results.get(1).getError());
+        assertTrue(results.get(2).isActive());
+    }
+
+    @Test
+    void prematureTokenFailsOnlyItself() {
+        String premature = Jwts.builder()
+                .setHeaderParam("kid", KeyRing.DEFAULT_KID)
+                .setSubject("youngjun")
+                .claim("roles", "ROLE_USER")
+                .setNotBefore(new Date(System.currentTimeMillis() + 3_600_000))
+                .setExpiration(new Date(System.currentTimeMillis() + 7_200_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+
+        List<IntrospectionResponse> results = introspector.introspect(Arrays.asList(premature, validToken()));
+
+        assertFalse(results.get(0).isActive());
+        assertEquals(SecurityError.AUTHENTICATION_FAILED.name(), results.get(0).getError());
+        assertTrue(results.get(1).isActive());
+    }
+
+    @Test
+    void parallelBatchWithInvalidTokens() {
+        String valid = validToken();
+        List<String> tokens = new ArrayList<>();
+        for(int i = 0; i < 100; i++) tokens.add(i % 10 == 0 ? "a$b.c.d" : valid);
+
+        List<IntrospectionResponse> results = introspector.introspect(tokens);
+
+        for(int i = 0; i < tokens.size(); i++) assertEquals(i % 10 != 0, results.get(i).isActive());
+    }
+
+    private String validToken() {
+        return jwtProvider.generateToken(new UsernamePasswordAuthenticationToken("youngjun", "",
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))), false);
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.demo.security;
+
+import com.example.demo.metrics.AuthMetrics;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * template 으로 만든 토큰을 jjwt parser 가 검증할 수 있고 jjwt JwtBuilder 결과와 같은지 확인
+ */
+class TokenMinterTest {
+
+    private static final String SECRET = "SeCrEtKeYR4e3o1W1o2nY3oun4gju13n";
+    private static final String UUID_FORMAT = "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}";
+
+    private JwtProvider jwtProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = provider("bitmask");
+    }
+
+    @Test
+    void tokenPairIsVerifiedByJjwtParser() {
+        Authentication authentication = authentication("youngjun", "ROLE_USER", "ROLE_ADMIN");
+        TokenPair tokens = jwtProvider.generateTokenPair(authentication);
+
+        Jws<Claims> access = parse(tokens.getAccessToken());
+        Jws<Claims> refresh = parse(tokens.getRefreshToken());
+        for(Jws<Claims> jws : List.of(access, refresh)) {
+            assertEquals("HS256", jws.getHeader().getAlgorithm());
+            assertEquals(KeyRing.DEFAULT_KID, jws.getHeader().getKeyId());
+            assertEquals("youngjun", jws.getBody().getSubject());
+            assertTrue(jws.getBody().getId().matches(UUID_FORMAT), jws.getBody().getId());
+            assertEquals(RoleAuthorities.mask(authentication.getAuthorities()), jws.getBody().get("rl", Long.class));
+        }
+        assertNotEquals(access.getBody().getId(), refresh.getBody().getId());
+
+        //두 토큰은 같은 발급 시각 기준
+        assertEquals(tokens.getIssuedAt() + jwtProvider.getAccessTokenValidMilliSeconds(), tokens.getAccessTokenExpiresAt());
+        assertEquals(tokens.getIssuedAt() + jwtProvider.getRefreshTokenValidMilliSeconds(), tokens.getRefreshTokenExpiresAt());
+        assertEquals(tokens.getAccessTokenExpiresAt() / 1000 * 1000, access.getBody().getExpiration().getTime());
+        assertEquals(tokens.getRefreshTokenExpiresAt() / 1000 * 1000, refresh.getBody().getExpiration().getTime());
+    }
+
+    @Test
+    void sameOutputAsJjwtBuilder() {
+        String[] usernames = {"youngjun", "홍길동\"\\", "tab\tnew\nline\r\b\f\u0001\u001f\u007f", "emoji😀/<>&'", "lone\uD800 \uDC00", "x".repeat(1000)};
+        for(String username : usernames) {
+            assertSameAsBuilder(jwtProvider, authentication(username, "ROLE_USER", "ROLE_ADMIN"));
+            assertSameAsBuilder(jwtProvider, authentication(username, "ROLE_USER", "SCOPE_read"));
+            assertSameAsBuilder(provider("csv"), authentication(username, "ROLE_USER", "ROLE_ADMIN"));
+        }
+    }
+
+    @Test
+    void rotatedKeyUsesItsOwnHeader() {
+        SigningKey rotated = jwtProvider.getKeyRing().rotate();
+        TokenPair tokens = jwtProvider.generateTokenPair(authentication("youngjun", "ROLE_USER"));
+
+        Jws<Claims> jws = parse(tokens.getAccessToken());
+        assertEquals(rotated.getKid(), jws.getHeader().getKeyId());
+        assertEquals("youngjun", new JjwtTokenVerifier(jwtProvider.getKeyRing()).verify(tokens.getRefreshToken()).getSubject());
+        assertEquals("youngjun", new Hs256TokenVerifier(jwtProvider.getKeyRing()).verify(tokens.getRefreshToken()).getSubject());
+    }
+
+    @Test
+    void concurrentMintingKeepsTokensSeparate() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for(int thread = 0; thread < 8; thread++) {
+                int id = thread;
+                futures.add(executor.submit(() -> {
+                    for(int i = 0; i < 200; i++) {
+                        String username = "user-" + id + "-" + i + "-" + "p".repeat(i);
+                        TokenPair tokens = jwtProvider.generateTokenPair(authentication(username, "ROLE_USER"));
+                        assertEquals(username, parse(tokens.getAccessToken()).getBody().getSubject());
+                        assertEquals(username, parse(tokens.getRefreshToken()).getBody().getSubject());
+                    }
+                    return null;
+                }));
+            }
+            for(Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 이전 generateToken (JwtBuilder) 과 같은 claim 순서 / 값으로 만든 토큰과 글자 단위로 비교
+     */
+    private void assertSameAsBuilder(JwtProvider provider, Authentication authentication) {
+        String token = provider.generateToken(authentication, false);
+        SigningKey signingKey = provider.getKeyRing().getSigningKey();
+        Claims claims = Jwts.parserBuilder().setSigningKey(signingKey.getKey()).build().parseClaimsJws(token).getBody();
+
+        long roleMask = provider.getRolesFormat().equals("bitmask") ? RoleAuthorities.mask(authentication.getAuthorities()) : -1;
+        JwtBuilder builder = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.getKid())
+                .setId(claims.getId())
+                .setSubject(authentication.getName());
+        if(roleMask >= 0) builder.claim("rl", roleMask);
+        else builder.claim("roles", authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(",")));
+        String expected = builder
+                .signWith(signingKey.getKey(), SignatureAlgorithm.HS256)
+                .setExpiration(claims.getExpiration())
+                .compact();
+
+        assertEquals(expected, token, authentication.getName());
+    }
+
+    private Jws<Claims> parse(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(jwtProvider.getKeyRing().getSigningKey().getKey())
+                .build()
+                .parseClaimsJws(token);
+    }
+
+    private static JwtProvider provider(String rolesFormat) {
+        JwtProvider provider = new JwtProvider(new KeyRing(SECRET, "", KeyRing.DEFAULT_KID, 0, 86400),
+                60, 86400, "jjwt", rolesFormat,
+                new TokenAuthenticationCache(false, 0, 0), new AuthMetrics());
+        provider.init();
+        return provider;
+    }
+
+    private static Authentication authentication(String username, String... roles) {
+        List<SimpleGrantedAuthority> authorities = new ArrayList<>();
+        for(String role : roles) authorities.add(new SimpleGrantedAuthority(role));
+        return new UsernamePasswordAuthenticationToken(username, "", authorities);
+    }
+}
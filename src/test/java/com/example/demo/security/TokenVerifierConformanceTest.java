@@ -0,0 +1,187 @@
+package com.example.demo.security;
+
+import com.example.demo.metrics.AuthMetrics;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * jjwt 엔진과 hs256 엔진이 같은 토큰에 대해 같은 결과를 내는지 확인
+ */
+class TokenVerifierConformanceTest {
+
+    private static final String SECRET = "SeCrEtKeYR4e3o1W1o2nY3oun4gju13n";
+
+    private JwtProvider jwtProvider;
+    private TokenVerifier jjwt;
+    private TokenVerifier hs256;
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = provider(SECRET, 60);
+        jjwt = new JjwtTokenVerifier(jwtProvider.getKeyRing());
+        hs256 = new Hs256TokenVerifier(jwtProvider.getKeyRing());
+    }
+
+    @Test
+    void validAccessAndRefreshTokens() {
+        Authentication authentication = authentication("youngjun", "ROLE_USER", "ROLE_ADMIN");
+
+        assertSameOutcome(jwtProvider.generateToken(authentication, false));
+        assertSameOutcome(jwtProvider.generateToken(authentication, true));
+    }
+
+    @Test
+    void csvAndBitmaskRolesProduceSameAuthorities() {
+        Authentication authentication = authentication("youngjun", "ROLE_USER", "ROLE_ADMIN");
+        String csvToken = provider(SECRET, 60, "csv").generateToken(authentication, false);
+        String bitmaskToken = jwtProvider.generateToken(authentication, false);
+
+        assertSameOutcome(csvToken);
+        assertEquals(jjwt.verify(csvToken).getAuthentication().getAuthorities(),
+                hs256.verify(bitmaskToken).getAuthentication().getAuthorities());
+    }
+
+    @Test
+    void unknownRoleFallsBackToCsv() {
+        assertSameOutcome(jwtProvider.generateToken(authentication("youngjun", "ROLE_USER", "SCOPE_read"), false));
+    }
+
+    @Test
+    void validTokenWithNonAsciiSubject() {
+        assertSameOutcome(jwtProvider.generateToken(authentication("홍길동\"\\", "ROLE_USER"), false));
+    }
+
+    @Test
+    void tamperedSignature() {
+        String token = jwtProvider.generateToken(authentication("youngjun", "ROLE_USER"), false);
+        int index = token.lastIndexOf('.') + 5;
+        char replacement = token.charAt(index) == 'A' ? 'B' : 'A';
+
+        assertSameOutcome(token.substring(0, index) + replacement + token.substring(index + 1), SignatureException.class);
+    }
+
+    @Test
+    void tamperedPayload() {
+        String token = jwtProvider.generateToken(authentication("youngjun", "ROLE_USER"), false);
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+        String tampered = payload.replace("\"sub\":\"youngjun\"", "\"sub\":\"admin\"");
+        assertNotEquals(payload, tampered);
+
+        assertSameOutcome(parts[0] + "." + encode(tampered) + "." + parts[2], SignatureException.class);
+    }
+
+    @Test
+    void signedWithAnotherKey() {
+        String token = provider("AnOtHeRsEcReTkEyFoRtHeCoNfOrMaNcE", 60)
+                .generateToken(authentication("youngjun", "ROLE_USER"), false);
+
+        assertSameOutcome(token, SignatureException.class);
+    }
+
+    @Test
+    void rotatedSigningKey() {
+        String before = jwtProvider.generateToken(authentication("youngjun", "ROLE_USER"), false);
+        jwtProvider.getKeyRing().rotate();
+        String after = jwtProvider.generateToken(authentication("youngjun", "ROLE_USER"), false);
+
+        assertSameOutcome(before);
+        assertSameOutcome(after);
+    }
+
+    @Test
+    void unknownKeyId() {
+        JwtProvider other = provider(SECRET, 60);
+        other.getKeyRing().rotate();
+
+        assertSameOutcome(other.generateToken(authentication("youngjun", "ROLE_USER"), false), SignatureException.class);
+    }
+
+    @Test
+    void expiredToken() {
+        String token = provider(SECRET, -60).generateToken(authentication("youngjun", "ROLE_USER"), false);
+
+        assertSameOutcome(token, ExpiredJwtException.class);
+    }
+
+    @Test
+    void unsignedToken() {
+        long exp = System.currentTimeMillis() / 1000 + 60;
+        String token = encode("{\"alg\":\"none\"}") + "." + encode("{\"sub\":\"youngjun\",\"roles\":\"ROLE_ADMIN\",\"exp\":" + exp + "}") + ".";
+
+        assertSameOutcome(token, UnsupportedJwtException.class);
+    }
+
+    @Test
+    void malformedTokens() {
+        String token = jwtProvider.generateToken(authentication("youngjun", "ROLE_USER"), false);
+
+        assertSameOutcome("not-a-jwt", MalformedJwtException.class);
+        assertSameOutcome(token.substring(0, token.lastIndexOf('.')), MalformedJwtException.class);
+        assertSameOutcome(token + ".extra", MalformedJwtException.class);
+    }
+
+    private void assertSameOutcome(String token) {
+        VerifiedToken expected = jjwt.verify(token);
+        VerifiedToken actual = hs256.verify(token);
+
+        assertEquals(expected.getSubject(), actual.getSubject());
+        assertEquals(expected.getTokenId(), actual.getTokenId());
+        assertEquals(expected.getExpiration(), actual.getExpiration());
+        assertEquals(expected.getAuthentication().getName(), actual.getAuthentication().getName());
+        assertEquals(expected.getAuthentication().getAuthorities(), actual.getAuthentication().getAuthorities());
+    }
+
+    private void assertSameOutcome(String token, Class<? extends RuntimeException> expectedType) {
+        assertEquals(expectedType, outcome(jjwt, token), "jjwt");
+        assertEquals(expectedType, outcome(hs256, token), "hs256");
+    }
+
+    private Class<?> outcome(TokenVerifier verifier, String token) {
+        try {
+            return verifier.verify(token).getClass();
+        } catch (SignatureException e) {
+            //하위 클래스도 같은 분류로 본다
+            return SignatureException.class;
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+
+    private static JwtProvider provider(String secret, long accessTokenValidSeconds) {
+        return provider(secret, accessTokenValidSeconds, "bitmask");
+    }
+
+    private static JwtProvider provider(String secret, long accessTokenValidSeconds, String rolesFormat) {
+        JwtProvider provider = new JwtProvider(new KeyRing(secret, "", KeyRing.DEFAULT_KID, 0, 86400),
+                accessTokenValidSeconds, 86400, "jjwt", rolesFormat,
+                new TokenAuthenticationCache(false, 0, 0), new AuthMetrics());
+        provider.init();
+        return provider;
+    }
+
+    private static Authentication authentication(String username, String... roles) {
+        List<SimpleGrantedAuthority> authorities = new ArrayList<>();
+        for(String role : roles) authorities.add(new SimpleGrantedAuthority(role));
+        return new UsernamePasswordAuthenticationToken(username, "", authorities);
+    }
+
+    private static String encode(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
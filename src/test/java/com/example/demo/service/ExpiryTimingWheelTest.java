@@ -0,0 +1,92 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 만료 통보가 만료 tick 보다 이르거나 늦지 않은지 확인 (단계 간 이동, 지난 만료, 범위 밖 예약)
+ */
+class ExpiryTimingWheelTest {
+
+    @Test
+    void expiresAtExactTickAfterCascadingFromUpperLevels() {
+        //시작 tick 이 칸 경계가 아니어도 위 단계에서 내려온 항목이 제때 만료되는지
+        long start = 37;
+        ExpiryTimingWheel wheel = new ExpiryTimingWheel(1, 3, start);
+        long level1 = start + 64 * 3 + 5;
+        long level2 = start + 64 * 64 * 2 + 64 * 7 + 11;
+        wheel.schedule(1, level1);
+        wheel.schedule(2, level2);
+
+        assertEquals(Arrays.asList(), advance(wheel, level1 - 1));
+        assertEquals(Arrays.asList(1L), advance(wheel, level1));
+        assertEquals(Arrays.asList(), advance(wheel, level2 - 1));
+        assertEquals(Arrays.asList(2L), advance(wheel, level2));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void everyTickAcrossLevelsExpiresOnce() {
+        ExpiryTimingWheel wheel = new ExpiryTimingWheel(1, 2, 0);
+        for(long expiresAt = 1; expiresAt <= 64 * 64; expiresAt++) wheel.schedule(expiresAt, expiresAt);
+
+        for(long now = 1; now <= 64 * 64; now++) assertEquals(Arrays.asList(now), advance(wheel, now), "tick " + now);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void pastDueExpiresOnNextAdvance() {
+        ExpiryTimingWheel wheel = new ExpiryTimingWheel(10, 3, 10_000);
+        wheel.schedule(1, 5_000);
+        assertEquals(Arrays.asList(1L), advance(wheel, 10_000));
+
+        //처리한 tick 보다 이전 만료는 다음 tick 에 통보
+        wheel.schedule(2, 9_000);
+        assertEquals(Arrays.asList(), advance(wheel, 10_000));
+        assertEquals(Arrays.asList(2L), advance(wheel, 10_010));
+    }
+
+    @Test
+    void neverExpiresBeforeExpiryTime() {
+        ExpiryTimingWheel wheel = new ExpiryTimingWheel(10, 3, 0);
+        wheel.schedule(1, 1_001);
+
+        assertEquals(Arrays.asList(), advance(wheel, 1_009));
+        assertEquals(Arrays.asList(1L), advance(wheel, 1_010));
+    }
+
+    @Test
+    void beyondRangeIsRescheduledAtTopLevel() {
+        //2 단계는 64 * 64 tick 까지, 그보다 먼 만료는 맨 위 단계를 여러번 돈다
+        ExpiryTimingWheel wheel = new ExpiryTimingWheel(1, 2, 0);
+        long expiresAt = 64 * 64 * 3 + 100;
+        wheel.schedule(1, expiresAt);
+
+        assertEquals(Arrays.asList(), advance(wheel, expiresAt - 1));
+        assertEquals(1, wheel.size());
+        assertEquals(Arrays.asList(1L), advance(wheel, expiresAt));
+    }
+
+    @Test
+    void processedSlotsReleaseMemory() {
+        ExpiryTimingWheel wheel = new ExpiryTimingWheel(1, 2, 0);
+        for(long id = 0; id < 1000; id++) wheel.schedule(id, 1 + id % 100);
+        assertTrue(wheel.estimatedBytes() >= 1000 * 16);
+
+        assertEquals(1000, advance(wheel, 100).size());
+        assertEquals(0, wheel.estimatedBytes());
+    }
+
+    private static List<Long> advance(ExpiryTimingWheel wheel, long now) {
+        List<Long> expired = new ArrayList<>();
+        int count = wheel.advance(now, expired::add);
+        assertEquals(expired.size(), count);
+        return expired;
+    }
+}
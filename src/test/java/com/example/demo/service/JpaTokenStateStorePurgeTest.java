@@ -0,0 +1,106 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.RefreshTokenSession;
+import com.example.demo.repository.RefreshTokenSessionRepository;
+import com.example.demo.repository.RefreshTokenSessionRepository.SessionExpiry;
+import com.example.demo.repository.RevokedAccessTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 재발급으로 연장된 세션이 삭제되지 않고 새 만료 시각으로 다시 예약되는지 확인 (DB 는 mock)
+ */
+class JpaTokenStateStorePurgeTest {
+
+    private static final long TICK_MILLIS = 10;
+    private static final long SESSION_ID = 7;
+
+    private RefreshTokenSessionRepository refreshTokenSessionRepository;
+    private JpaTokenStateStore store;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenSessionRepository = mock(RefreshTokenSessionRepository.class);
+        RefreshTokenSession saved = mock(RefreshTokenSession.class);
+        when(saved.getId()).thenReturn(SESSION_ID);
+        when(refreshTokenSessionRepository.save(any())).thenReturn(saved);
+        store = new JpaTokenStateStore(refreshTokenSessionRepository, mock(RevokedAccessTokenRepository.class),
+                mock(JdbcTemplate.class), mock(PlatformTransactionManager.class),
+                TICK_MILLIS, 1000, false, 0, 0, 0, 1000, 60);
+    }
+
+    @Test
+    void extendedSessionIsRescheduledThenPurged() throws Exception {
+        long expiresAt = System.currentTimeMillis() + 3 * TICK_MILLIS;
+        store.saveRefreshToken("user", new byte[32], expiresAt);
+        assertEquals(1, store.getScheduledCount());
+
+        //만료 전에 재발급으로 연장됨 (delete 조건에 걸리지 않음)
+        long extendedExpiresAt = expiresAt + 5 * TICK_MILLIS;
+        when(refreshTokenSessionRepository.deleteExpired(eq(Collections.singletonList(SESSION_ID)), anyLong())).thenReturn(0);
+        when(refreshTokenSessionRepository.findExpiries(Collections.singletonList(SESSION_ID)))
+                .thenReturn(Collections.singletonList(expiry(extendedExpiresAt)));
+        sleepUntil(expiresAt + TICK_MILLIS);
+
+        assertEquals(0, store.purge());
+        assertEquals(1, store.getScheduledCount());
+
+        //연장된 만료 시각 전에는 다시 조회하지 않음
+        store.purge();
+        verify(refreshTokenSessionRepository, times(1)).deleteExpired(any(), anyLong());
+
+        when(refreshTokenSessionRepository.deleteExpired(eq(Collections.singletonList(SESSION_ID)), anyLong())).thenReturn(1);
+        sleepUntil(extendedExpiresAt + TICK_MILLIS);
+
+        assertEquals(1, store.purge());
+        assertEquals(0, store.getScheduledCount());
+        assertEquals(1, store.getPurgedCount());
+        verify(refreshTokenSessionRepository, times(1)).findExpiries(any());
+    }
+
+    @Test
+    void loggedOutSessionIsNotRescheduled() throws Exception {
+        long expiresAt = System.currentTimeMillis() + TICK_MILLIS;
+        store.saveRefreshToken("user", new byte[32], expiresAt);
+        //로그아웃으로 이미 지워진 세션은 삭제되지 않고 조회해도 없으므로 다시 예약하지 않음
+        when(refreshTokenSessionRepository.deleteExpired(any(), anyLong())).thenReturn(0);
+        when(refreshTokenSessionRepository.findExpiries(any())).thenReturn(Collections.emptyList());
+        sleepUntil(expiresAt + TICK_MILLIS);
+
+        assertEquals(0, store.purge());
+        assertEquals(0, store.getScheduledCount());
+        verify(refreshTokenSessionRepository, times(1)).findExpiries(any());
+    }
+
+    private static SessionExpiry expiry(long expiresAt) {
+        return new SessionExpiry() {
+            @Override
+            public Long getId() {
+                return SESSION_ID;
+            }
+
+            @Override
+            public long getExpiresAt() {
+                return expiresAt;
+            }
+        };
+    }
+
+    private static void sleepUntil(long epochMillis) throws InterruptedException {
+        long remaining = epochMillis - System.currentTimeMillis();
+        if(remaining > 0) Thread.sleep(remaining);
+    }
+}
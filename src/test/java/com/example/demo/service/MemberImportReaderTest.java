@@ -0,0 +1,121 @@
+package com.example.demo.service;
+
+import com.example.demo.service.MemberImportReader.Format;
+import com.example.demo.service.MemberImportReader.Row;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * CSV 큰따옴표 처리와 형식 오류 행, NDJSON 읽기 확인
+ */
+class MemberImportReaderTest {
+
+    @Test
+    void quotedFieldsMayContainCommasAndQuotes() throws IOException {
+        List<Row> rows = csv("\"kim, jr\",\"pa\"\"ss,word\",\"Kim \"\"Junior\"\"\"").read(10);
+
+        assertEquals(1, rows.size());
+        assertValid(rows.get(0), "kim, jr", "pa\"ss,word", "Kim \"Junior\"");
+    }
+
+    @Test
+    void emptyQuotedFieldIsEmptyString() throws IOException {
+        List<Row> rows = csv("user,\"\",name").read(10);
+
+        assertValid(rows.get(0), "user", "", "name");
+    }
+
+    @Test
+    void passwordIsNotTrimmed() throws IOException {
+        List<Row> rows = csv(" user , pass ,\" name \"").read(10);
+
+        assertValid(rows.get(0), "user", " pass ", "name");
+    }
+
+    @Test
+    void unterminatedQuoteIsInvalid() throws IOException {
+        List<Row> rows = csv("user,\"password,name\nnext,password,name").read(10);
+
+        //따옴표는 줄을 넘지 않으므로 다음 줄은 따로 읽음
+        assertEquals(2, rows.size());
+        assertInvalid(rows.get(0), 1);
+        assertValid(rows.get(1), "next", "password", "name");
+    }
+
+    @Test
+    void wrongFieldCountIsInvalid() throws IOException {
+        List<Row> rows = csv("user,password\nuser,password,name,extra\n\"a,b\",c").read(10);
+
+        assertEquals(3, rows.size());
+        assertInvalid(rows.get(0), 1);
+        assertInvalid(rows.get(1), 2);
+        assertInvalid(rows.get(2), 3);
+    }
+
+    @Test
+    void headerIsSkippedOnlyOnFirstLine() throws IOException {
+        List<Row> rows = csv("Username,Password,Name\n\nuser,password,name\nusername,password,name").read(10);
+
+        //빈 줄도 줄 번호는 셈
+        assertEquals(2, rows.size());
+        assertEquals(3, rows.get(0).line);
+        assertValid(rows.get(1), "username", "password", "name");
+        assertEquals(4, rows.get(1).line);
+    }
+
+    @Test
+    void readsInBatchesKeepingLineNumbers() throws IOException {
+        MemberImportReader reader = csv("a,1,A\nb,2,B\nc,3,C");
+
+        List<Row> first = reader.read(2);
+        List<Row> second = reader.read(2);
+
+        assertEquals(2, first.size());
+        assertEquals(1, second.size());
+        assertEquals(3, second.get(0).line);
+        assertTrue(reader.read(2).isEmpty());
+    }
+
+    @Test
+    void ndjsonRowsAndErrors() throws IOException {
+        MemberImportReader reader = new MemberImportReader(new StringReader(
+                "{\"username\":\"user\",\"password\":\"pass\",\"name\":\"name\"}\n[1,2]\n{broken\n{\"username\":\"only\"}"),
+                Format.NDJSON, new ObjectMapper());
+
+        List<Row> rows = reader.read(10);
+
+        assertEquals(4, rows.size());
+        assertValid(rows.get(0), "user", "pass", "name");
+        assertInvalid(rows.get(1), 2);
+        assertInvalid(rows.get(2), 3);
+        //빠진 필드는 null (검증은 가입 처리에서)
+        assertNull(rows.get(3).error);
+        assertNull(rows.get(3).password);
+    }
+
+    private static MemberImportReader csv(String body) {
+        return new MemberImportReader(new StringReader(body), Format.CSV, new ObjectMapper());
+    }
+
+    private static void assertValid(Row row, String username, String password, String name) {
+        assertNull(row.error, row.error);
+        assertEquals(username, row.username);
+        assertEquals(password, row.password);
+        assertEquals(name, row.name);
+    }
+
+    private static void assertInvalid(Row row, long line) {
+        assertNotNull(row.error);
+        assertEquals(line, row.line);
+        assertNull(row.username);
+    }
+}
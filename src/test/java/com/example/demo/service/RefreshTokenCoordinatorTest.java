@@ -0,0 +1,175 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.RefreshTokenDTO;
+import com.example.demo.dto.response.LoginResponse;
+import com.example.demo.exception.InvalidRefreshTokenException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 같은 refreshToken 동시 요청이 한번의 재발급으로 합쳐지는지 확인
+ */
+class RefreshTokenCoordinatorTest {
+
+    private static final int THREADS = 32;
+
+    private MemberService memberService;
+    private AtomicInteger invocations;
+
+    @BeforeEach
+    void setUp() {
+        memberService = mock(MemberService.class);
+        invocations = new AtomicInteger();
+        when(memberService.refreshToken(any(), any())).thenAnswer(invocation -> {
+            int call = invocations.incrementAndGet();
+            Thread.sleep(50);
+            return LoginResponse.builder().accessToken("access-" + call).refreshToken("refresh-" + call).build();
+        });
+    }
+
+    @Test
+    void concurrentRefreshesShareOneResult() throws Exception {
+        RefreshTokenCoordinator coordinator = new RefreshTokenCoordinator(memberService, 5000);
+
+        List<LoginResponse> responses = runConcurrently(coordinator, "refresh-token");
+
+        assertEquals(1, invocations.get());
+        for(LoginResponse response : responses) assertSame(responses.get(0), response);
+        assertEquals(THREADS - 1, coordinator.getCoalescedCount());
+    }
+
+    @Test
+    void differentTokensAreNotCoalesced() throws Exception {
+        RefreshTokenCoordinator coordinator = new RefreshTokenCoordinator(memberService, 5000);
+
+        LoginResponse first = coordinator.refresh(request("token-a"), "127.0.0.1");
+        LoginResponse second = coordinator.refresh(request("token-b"), "127.0.0.1");
+
+        assertEquals(2, invocations.get());
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void lateDuplicateWithinGraceGetsSamePair() throws Exception {
+        RefreshTokenCoordinator coordinator = new RefreshTokenCoordinator(memberService, 200);
+
+        LoginResponse first = coordinator.refresh(request("refresh-token"), "127.0.0.1");
+        LoginResponse late = coordinator.refresh(request("refresh-token"), "127.0.0.1");
+        Thread.sleep(300);
+        LoginResponse afterGrace = coordinator.refresh(request("refresh-token"), "127.0.0.1");
+
+        assertSame(first, late);
+        assertNotSame(first, afterGrace);
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    void failureIsSharedButNotRemembered() throws Exception {
+        AtomicInteger failures = new AtomicInteger();
+        when(memberService.refreshToken(any(), any())).thenAnswer(invocation -> {
+            failures.incrementAndGet();
+            Thread.sleep(50);
+            throw new InvalidRefreshTokenException("유효하지 않은 리프레시 토큰입니다.");
+        });
+        RefreshTokenCoordinator coordinator = new RefreshTokenCoordinator(memberService, 5000);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<LoginResponse>> futures = new ArrayList<>();
+            for(int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return coordinator.refresh(request("refresh-token"), "127.0.0.1");
+                }));
+            }
+            start.countDown();
+            for(Future<LoginResponse> future : futures) {
+                Exception e = assertThrows(Exception.class, future::get);
+                assertTrue(e.getCause() instanceof InvalidRefreshTokenException);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int afterBurst = failures.get();
+        assertThrows(InvalidRefreshTokenException.class, () -> coordinator.refresh(request("refresh-token"), "127.0.0.1"));
+        assertEquals(afterBurst + 1, failures.get());
+        assertEquals(0, coordinator.size());
+    }
+
+    @Test
+    void errorCompletesWaitingRequests() throws Exception {
+        CountDownLatch leading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(memberService.refreshToken(any(), any())).thenAnswer(invocation -> {
+            leading.countDown();
+            release.await();
+            throw new StackOverflowError();
+        });
+        RefreshTokenCoordinator coordinator = new RefreshTokenCoordinator(memberService, 5000);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<LoginResponse> leader = executor.submit(() -> coordinator.refresh(request("refresh-token"), "127.0.0.1"));
+            assertTrue(leading.await(5, TimeUnit.SECONDS));
+            Future<LoginResponse> waiter = executor.submit(() -> coordinator.refresh(request("refresh-token"), "127.0.0.1"));
+            while(coordinator.getCoalescedCount() == 0) Thread.sleep(1);
+            release.countDown();
+
+            Exception leaderError = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+            assertTrue(leaderError.getCause() instanceof StackOverflowError);
+            Exception waiterError = assertThrows(Exception.class, () -> waiter.get(5, TimeUnit.SECONDS));
+            assertTrue(waiterError.getCause() instanceof StackOverflowError);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(0, coordinator.size());
+    }
+
+    private List<LoginResponse> runConcurrently(RefreshTokenCoordinator coordinator, String refreshToken) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch ready = new CountDownLatch(THREADS);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<LoginResponse>> futures = new ArrayList<>();
+            for(int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return coordinator.refresh(request(refreshToken), "127.0.0.1");
+                }));
+            }
+            assertTrue(ready.await(5, TimeUnit.SECONDS));
+            start.countDown();
+
+            List<LoginResponse> responses = new ArrayList<>();
+            for(Future<LoginResponse> future : futures) responses.add(future.get(5, TimeUnit.SECONDS));
+            return responses;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static RefreshTokenDTO request(String refreshToken) {
+        return new RefreshTokenDTO("refreshToken", refreshToken);
+    }
+}
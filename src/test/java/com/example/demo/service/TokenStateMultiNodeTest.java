@@ -0,0 +1,128 @@
+package com.example.demo.service;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.domain.MemberForm;
+import com.example.demo.dto.LoginDTO;
+import com.example.demo.dto.RefreshTokenDTO;
+import com.example.demo.dto.response.LoginResponse;
+import com.example.demo.exception.InvalidRefreshTokenException;
+import com.example.demo.security.JwtProvider;
+import com.example.demo.security.RevokedTokenDenylist;
+import com.example.demo.security.TokenDigest;
+import com.example.demo.security.VerifiedToken;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 인스턴스 두 대 (application context 두 개) 가 하나의 InMemoryTokenStateStore (네트워크 저장소 대용) 를 공유할 때
+ * 한쪽의 재발급 / 로그아웃이 다른 쪽 near-cache 에 전달되는 시간 확인
+ * 회원은 같은 H2 메모리 DB 에 저장한다.
+ */
+class TokenStateMultiNodeTest {
+
+    private static final long MAX_INVALIDATION_MILLIS = 1000;
+
+    private static InMemoryTokenStateStore store;
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        store = new InMemoryTokenStateStore();
+        nodeA = start("create");
+        nodeB = start("none");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if(nodeB != null) nodeB.close();
+        if(nodeA != null) nodeA.close();
+        store.shutdown();
+    }
+
+    @Test
+    void rotationOnOtherNodeInvalidatesNearCache() throws Exception {
+        LoginResponse login = signUpAndLogin(nodeA, "multi-node-rotate");
+        byte[] tokenHash = TokenDigest.sha256(login.getRefreshToken());
+        TokenStateNearCache nearCacheA = nodeA.getBean(TokenStateNearCache.class);
+
+        //A 에서 로그인했으므로 A 의 near-cache 에 있음
+        assertTrue(nearCacheA.isRefreshTokenLive("multi-node-rotate", tokenHash, System.currentTimeMillis()));
+        long missesBefore = nearCacheA.getMissCount();
+
+        nodeB.getBean(MemberService.class).refreshToken(new RefreshTokenDTO("refreshToken", login.getRefreshToken()), "127.0.0.1");
+        await(() -> nearCacheA.peek(tokenHash) == 0);
+
+        //A 는 저장소를 다시 읽지 않고 tombstone 으로 거절
+        assertThrows(InvalidRefreshTokenException.class, () -> nodeA.getBean(MemberService.class)
+                .refreshToken(new RefreshTokenDTO("refreshToken", login.getRefreshToken()), "127.0.0.1"));
+        assertEquals(missesBefore, nearCacheA.getMissCount());
+    }
+
+    @Test
+    void logoutOnOtherNodeRevokesAccessToken() throws Exception {
+        LoginResponse login = signUpAndLogin(nodeA, "multi-node-logout");
+        VerifiedToken verifiedToken = nodeA.getBean(JwtProvider.class).verify(login.getAccessToken());
+        byte[] tokenHash = TokenDigest.sha256(login.getRefreshToken());
+        RevokedTokenDenylist denylistA = nodeA.getBean(RevokedTokenDenylist.class);
+        TokenStateNearCache nearCacheA = nodeA.getBean(TokenStateNearCache.class);
+        assertFalse(denylistA.isRevoked(verifiedToken.getTokenId(), verifiedToken.getExpiration()));
+
+        nodeB.getBean(MemberService.class).logout(verifiedToken, null, "127.0.0.1");
+        await(() -> denylistA.isRevoked(verifiedToken.getTokenId(), verifiedToken.getExpiration())
+                && nearCacheA.peek(tokenHash) == 0);
+    }
+
+    private static LoginResponse signUpAndLogin(ConfigurableApplicationContext node, String username) {
+        node.getBean(MemberService.class).signUp(MemberForm.builder()
+                .username(username)
+                .password("password")
+                .name("multi-node")
+                .build()).join();
+        return node.getBean(LoginService.class).login(new LoginDTO(username, "password"), "127.0.0.1").join();
+    }
+
+    /**
+     * 조건이 참이 될 때까지 기다림 (MAX_INVALIDATION_MILLIS 안에 참이 되지 않으면 실패)
+     */
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long startedAt = System.nanoTime();
+        while(!condition.getAsBoolean()) {
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            assertTrue(elapsed < MAX_INVALIDATION_MILLIS, "다른 인스턴스에 " + MAX_INVALIDATION_MILLIS + " ms 안에 전달되지 않았습니다.");
+            Thread.sleep(1);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String ddlAuto) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:token-state;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", ddlAuto);
+        properties.put("spring.devtools.restart.enabled", "false");
+        properties.put("token-state.store", "memory");
+
+        //application.properties 보다 우선하도록 command line 인자로 전달
+        return new SpringApplicationBuilder(DemoApplication.class)
+                .initializers(context -> context.getBeanFactory().registerSingleton("inMemoryTokenStateStore", store))
+                .run(properties.entrySet().stream()
+                        .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                        .toArray(String[]::new));
+    }
+}